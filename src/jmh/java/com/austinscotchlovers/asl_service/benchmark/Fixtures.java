@@ -0,0 +1,63 @@
+package com.austinscotchlovers.asl_service.benchmark;
+
+import com.austinscotchlovers.asl_service.events.dto.EventDetail;
+import com.austinscotchlovers.asl_service.events.dto.EventDto;
+import com.austinscotchlovers.asl_service.events.dto.EventPage;
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
+import com.austinscotchlovers.asl_service.users.Address;
+import com.austinscotchlovers.asl_service.users.dto.AddressDto;
+import com.austinscotchlovers.asl_service.users.dto.UserProfile;
+import com.austinscotchlovers.asl_service.users.dto.UserUpdateDto;
+import com.austinscotchlovers.asl_service.users.security.Role;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class Fixtures {
+
+    static final LocalDate DATE = LocalDate.of(2025, 10, 18);
+    static final LocalTime TIME = LocalTime.of(19, 30);
+
+    private Fixtures() {
+    }
+
+    static EventDto eventDto() {
+        return new EventDto("Laphroaig Vertical", "Ten, quarter cask and 18 year old side by side.", DATE, TIME, "Whisky Bar", 40);
+    }
+
+    static EventDto invalidEventDto() {
+        return new EventDto("", "x".repeat(1200), null, TIME, " ", -1);
+    }
+
+    static UserUpdateDto userUpdateDto() {
+        return new UserUpdateDto("member@example.com", "member", "Morag", "MacLeod", "Morag MacLeod",
+                "https://example.com/morag.jpg", "+1 (512) 555-0142",
+                new Address("100 Congress Ave", "Suite 200", "Austin", "TX", "78701"));
+    }
+
+    static UserUpdateDto invalidUserUpdateDto() {
+        return new UserUpdateDto("not-an-email", "", "", "", "", "not a url", "call me", null);
+    }
+
+    static EventDetail eventDetail() {
+        return new EventDetail(42L, "Laphroaig Vertical", "Ten, quarter cask and 18 year old side by side.",
+                DATE, TIME, "Whisky Bar", 40, 37, 3L);
+    }
+
+    static EventPage eventPage(int size) {
+        List<EventSummary> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new EventSummary((long) i, "Tasting #" + i, "An evening of drams and conversation.",
+                    DATE.plusDays(i), TIME, "Downtown"));
+        }
+        return new EventPage(items, "MjAyNS0xMC0xOHwxOTozMHwxOQ");
+    }
+
+    static UserProfile userProfile() {
+        return new UserProfile(7L, "member@example.com", "member", "Morag", "MacLeod", "Morag MacLeod",
+                "https://example.com/morag.jpg", "+1 (512) 555-0142", Role.MEMBER,
+                new AddressDto("100 Congress Ave", "Suite 200", "Austin", "TX", "78701"), 5L);
+    }
+}
@@ -0,0 +1,64 @@
+package com.austinscotchlovers.asl_service.benchmark;
+
+import com.austinscotchlovers.asl_service.events.dto.EventDetail;
+import com.austinscotchlovers.asl_service.events.dto.EventDto;
+import com.austinscotchlovers.asl_service.events.dto.EventPage;
+import com.austinscotchlovers.asl_service.users.dto.UserProfile;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonBenchmark {
+
+    private ObjectWriter eventPageWriter;
+    private ObjectWriter eventDetailWriter;
+    private ObjectWriter userProfileWriter;
+    private ObjectReader eventDtoReader;
+
+    private EventPage eventPage;
+    private EventDetail eventDetail;
+    private UserProfile userProfile;
+    private byte[] eventDtoJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        eventPageWriter = objectMapper.writerFor(EventPage.class);
+        eventDetailWriter = objectMapper.writerFor(EventDetail.class);
+        userProfileWriter = objectMapper.writerFor(UserProfile.class);
+        eventDtoReader = objectMapper.readerFor(EventDto.class);
+
+        eventPage = Fixtures.eventPage(20);
+        eventDetail = Fixtures.eventDetail();
+        userProfile = Fixtures.userProfile();
+        eventDtoJson = objectMapper.writeValueAsBytes(Fixtures.eventDto());
+    }
+
+    @Benchmark
+    public byte[] serializeEventPage() throws IOException {
+        return eventPageWriter.writeValueAsBytes(eventPage);
+    }
+
+    @Benchmark
+    public byte[] serializeEventDetail() throws IOException {
+        return eventDetailWriter.writeValueAsBytes(eventDetail);
+    }
+
+    @Benchmark
+    public byte[] serializeUserProfile() throws IOException {
+        return userProfileWriter.writeValueAsBytes(userProfile);
+    }
+
+    @Benchmark
+    public EventDto deserializeEventDto() throws IOException {
+        return eventDtoReader.readValue(eventDtoJson);
+    }
+}
@@ -0,0 +1,52 @@
+package com.austinscotchlovers.asl_service.benchmark;
+
+import com.austinscotchlovers.asl_service.events.Event;
+import com.austinscotchlovers.asl_service.events.dto.EventDto;
+import com.austinscotchlovers.asl_service.events.mapper.EventMapper;
+import com.austinscotchlovers.asl_service.events.mapper.EventMapperImpl;
+import com.austinscotchlovers.asl_service.users.User;
+import com.austinscotchlovers.asl_service.users.dto.UserUpdateDto;
+import com.austinscotchlovers.asl_service.users.mapper.UserMapper;
+import com.austinscotchlovers.asl_service.users.mapper.UserMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private final EventMapper eventMapper = new EventMapperImpl();
+    private final UserMapper userMapper = new UserMapperImpl();
+
+    private EventDto eventDto;
+    private UserUpdateDto userUpdateDto;
+    private Event event;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        eventDto = Fixtures.eventDto();
+        userUpdateDto = Fixtures.userUpdateDto();
+        event = new Event();
+        user = new User();
+    }
+
+    @Benchmark
+    public Event eventFromDto() {
+        return eventMapper.fromDto(eventDto);
+    }
+
+    @Benchmark
+    public Event updateEventFromDto() {
+        eventMapper.updateEventFromDto(eventDto, event);
+        return event;
+    }
+
+    @Benchmark
+    public User updateUserFromDto() {
+        userMapper.updateUserFromDto(userUpdateDto, user);
+        return user;
+    }
+}
@@ -0,0 +1,27 @@
+package com.austinscotchlovers.asl_service.benchmark;
+
+import com.austinscotchlovers.asl_service.users.security.CustomUserPrincipal;
+import com.austinscotchlovers.asl_service.users.security.Role;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrincipalBenchmark {
+
+    private CustomUserPrincipal principal;
+
+    @Setup
+    public void setUp() {
+        principal = new CustomUserPrincipal(7L, "member@example.com", Role.MEMBER);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return principal.getAuthorities();
+    }
+}
@@ -0,0 +1,61 @@
+package com.austinscotchlovers.asl_service.benchmark;
+
+import com.austinscotchlovers.asl_service.events.dto.EventDto;
+import com.austinscotchlovers.asl_service.users.dto.UserUpdateDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    private EventDto validEvent;
+    private EventDto invalidEvent;
+    private UserUpdateDto validUser;
+    private UserUpdateDto invalidUser;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validEvent = Fixtures.eventDto();
+        invalidEvent = Fixtures.invalidEventDto();
+        validUser = Fixtures.userUpdateDto();
+        invalidUser = Fixtures.invalidUserUpdateDto();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EventDto>> validateValidEventDto() {
+        return validator.validate(validEvent);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EventDto>> validateInvalidEventDto() {
+        return validator.validate(invalidEvent);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserUpdateDto>> validateValidUserUpdateDto() {
+        return validator.validate(validUser);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserUpdateDto>> validateInvalidUserUpdateDto() {
+        return validator.validate(invalidUser);
+    }
+}
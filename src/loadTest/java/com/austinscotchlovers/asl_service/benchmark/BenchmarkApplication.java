@@ -0,0 +1,115 @@
+package com.austinscotchlovers.asl_service.benchmark;
+
+import com.austinscotchlovers.asl_service.AslServiceApplication;
+import com.austinscotchlovers.asl_service.diagnostics.VirtualThreadPinningMonitor;
+import com.austinscotchlovers.asl_service.events.EventService;
+import com.austinscotchlovers.asl_service.events.dto.BulkEventResult;
+import com.austinscotchlovers.asl_service.events.dto.EventDto;
+import com.austinscotchlovers.asl_service.users.User;
+import com.austinscotchlovers.asl_service.users.UserRepository;
+import com.austinscotchlovers.asl_service.users.security.Role;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+final class BenchmarkApplication implements AutoCloseable {
+
+    static final String[] LOCATIONS = {"Zilker Park", "Downtown", "East Austin", "Mueller", "South Congress"};
+    static final String[] DISTILLERIES = {"Laphroaig", "Lagavulin", "Ardbeg", "Springbank", "Glenfarclas", "Talisker"};
+
+    record SeededUser(Long id, String email, String username) {}
+
+    private final ConfigurableApplicationContext context;
+    private final List<Long> eventIds;
+
+    private BenchmarkApplication(ConfigurableApplicationContext context, List<Long> eventIds) {
+        this.context = context;
+        this.eventIds = eventIds;
+    }
+
+    static BenchmarkApplication start(String name, boolean virtualThreads, int platformThreads, int seedEvents) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(AslServiceApplication.class)
+                .properties(
+                        "server.port=0",
+                        "management.server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + name,
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + platformThreads,
+                        "app.diagnostics.pinning.enabled=" + virtualThreads,
+                        "spring.security.oauth2.client.registration.google.client-id=benchmark",
+                        "spring.security.oauth2.client.registration.google.client-secret=benchmark",
+                        "spring.h2.console.enabled=false",
+                        "app.rate-limit.enabled=false",
+                        "app.outbox.relay.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        return new BenchmarkApplication(context, seed(context.getBean(EventService.class), seedEvents));
+    }
+
+    URI baseUri() {
+        return URI.create("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort());
+    }
+
+    List<Long> eventIds() {
+        return eventIds;
+    }
+
+    List<SeededUser> seedUsers(String prefix, Role role, int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .withEmail(prefix + i + "@loadtest.example.com")
+                    .withUsername(prefix + i)
+                    .withFirstName("Load")
+                    .withLastName("Tester " + i)
+                    .withName("Load Tester " + i)
+                    .withRole(role)
+                    .build());
+        }
+        return context.getBean(UserRepository.class).saveAll(users).stream()
+                .map(user -> new SeededUser(user.getId(), user.getEmail(), user.getUsername()))
+                .toList();
+    }
+
+    long pinnedCount() {
+        return context.getBeanProvider(VirtualThreadPinningMonitor.class)
+                .stream()
+                .mapToLong(VirtualThreadPinningMonitor::getPinnedCount)
+                .sum();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private static List<Long> seed(EventService eventService, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        LocalDate start = LocalDate.now().minusYears(1);
+        for (int offset = 0; offset < count; offset += 500) {
+            List<EventDto> batch = new ArrayList<>();
+            for (int i = offset; i < Math.min(offset + 500, count); i++) {
+                String distillery = DISTILLERIES[i % DISTILLERIES.length];
+                batch.add(new EventDto(
+                        distillery + " tasting #" + i,
+                        "An evening of " + distillery + " drams and conversation.",
+                        start.plusDays(i % 730),
+                        LocalTime.of(17 + i % 4, 0),
+                        LOCATIONS[i % LOCATIONS.length],
+                        40));
+            }
+            eventService.createEvents(batch).results().stream()
+                    .map(BulkEventResult::id)
+                    .filter(Objects::nonNull)
+                    .forEach(ids::add);
+        }
+        return ids;
+    }
+}
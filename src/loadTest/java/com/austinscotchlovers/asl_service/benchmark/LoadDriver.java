@@ -0,0 +1,143 @@
+package com.austinscotchlovers.asl_service.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+final class LoadDriver {
+
+    private final HttpClient client;
+    private final Map<String, Supplier<HttpRequest>> scenarios = new LinkedHashMap<>();
+
+    LoadDriver(URI baseUri, List<Long> eventIds) {
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        AtomicLong userSequence = new AtomicLong();
+
+        scenarios.put("GET /events", () -> get(baseUri.resolve("/api/v1/events?limit=20")));
+        scenarios.put("GET /events/{id}", () -> get(baseUri.resolve("/api/v1/events/" + randomElement(eventIds))));
+        scenarios.put("GET /events/search", () -> get(baseUri.resolve("/api/v1/events/search?q="
+                + randomElement(List.of(BenchmarkApplication.DISTILLERIES)).substring(0, 4).toLowerCase())));
+        scenarios.put("POST /users", () -> {
+            long n = userSequence.incrementAndGet();
+            String body = "{\"email\":\"load" + n + "-" + System.nanoTime() + "@example.com\","
+                    + "\"username\":\"load" + n + "-" + System.nanoTime() + "\",\"role\":\"MEMBER\"}";
+            return HttpRequest.newBuilder(baseUri.resolve("/api/v1/users"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        });
+    }
+
+    Map<String, Stats> run(int concurrency, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Map<String, Recorder>> perWorker = new ArrayList<>();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < concurrency; w++) {
+                Map<String, Recorder> recorders = new LinkedHashMap<>();
+                scenarios.keySet().forEach(name -> recorders.put(name, new Recorder()));
+                perWorker.add(recorders);
+                int offset = w;
+                workers.submit(() -> work(recorders, offset, deadline));
+            }
+        }
+
+        Map<String, Stats> stats = new LinkedHashMap<>();
+        List<Recorder> all = new ArrayList<>();
+        for (String name : scenarios.keySet()) {
+            List<Recorder> recorders = perWorker.stream().map(r -> r.get(name)).toList();
+            stats.put(name, Stats.of(recorders, duration));
+            all.addAll(recorders);
+        }
+        stats.put("all", Stats.of(all, duration));
+        return stats;
+    }
+
+    private void work(Map<String, Recorder> recorders, int offset, long deadline) {
+        List<String> names = List.copyOf(scenarios.keySet());
+        for (int i = offset; System.nanoTime() < deadline; i++) {
+            String name = names.get(i % names.size());
+            HttpRequest request = scenarios.get(name).get();
+            long started = System.nanoTime();
+            boolean ok;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() < 400;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            recorders.get(name).record(System.nanoTime() - started, ok);
+        }
+    }
+
+    private static HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri).GET().build();
+    }
+
+    private static <T> T randomElement(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            if (!ok) {
+                errors++;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+
+    record Stats(long requests, long errors, double throughput, double p50Millis, double p99Millis, double maxMillis) {
+
+        static Stats of(List<Recorder> recorders, Duration duration) {
+            long errors = 0;
+            int total = 0;
+            for (Recorder recorder : recorders) {
+                errors += recorder.errors;
+                total += recorder.count;
+            }
+            long[] merged = new long[total];
+            int position = 0;
+            for (Recorder recorder : recorders) {
+                System.arraycopy(recorder.latencies, 0, merged, position, recorder.count);
+                position += recorder.count;
+            }
+            Arrays.sort(merged);
+            return new Stats(total, errors, total / (duration.toNanos() / 1e9),
+                    percentile(merged, 0.50), percentile(merged, 0.99), total == 0 ? 0 : merged[total - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
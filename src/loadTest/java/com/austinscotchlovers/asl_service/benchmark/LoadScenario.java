@@ -0,0 +1,51 @@
+package com.austinscotchlovers.asl_service.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+record LoadScenario(String name, Supplier<HttpRequest> requests) {
+
+    record Session(BenchmarkApplication.SeededUser user, String cookie) {}
+
+    static List<LoadScenario> all(URI baseUri, List<Long> eventIds, List<Session> members, List<Session> admins) {
+        return List.of(
+                new LoadScenario("events.list", () -> get(baseUri.resolve("/api/v1/events?limit=20")).build()),
+                new LoadScenario("events.get", () -> get(baseUri.resolve("/api/v1/events/" + pick(eventIds))).build()),
+                new LoadScenario("events.upcoming", () -> get(baseUri.resolve("/api/v1/events/upcoming")).build()),
+                new LoadScenario("profile.get", () -> {
+                    Session session = pick(members);
+                    return get(baseUri.resolve("/api/v1/users/" + session.user().id()))
+                            .header("Cookie", session.cookie())
+                            .build();
+                }),
+                new LoadScenario("profile.update", () -> {
+                    Session session = pick(members);
+                    Long id = session.user().id();
+                    String body = """
+                            {"email":"%s","username":"%s","firstName":"Load","lastName":"Tester %d",\
+                            "name":"Load Tester %d","phoneNumber":"+1 512 555 %04d"}"""
+                            .formatted(session.user().email(), session.user().username(), id, id,
+                                    ThreadLocalRandom.current().nextInt(10_000));
+                    return HttpRequest.newBuilder(baseUri.resolve("/api/v1/users/" + id))
+                            .header("Cookie", session.cookie())
+                            .header("Content-Type", "application/json")
+                            .PUT(HttpRequest.BodyPublishers.ofString(body))
+                            .build();
+                }),
+                new LoadScenario("users.list", () -> get(baseUri.resolve("/api/v1/users?size=20&page="
+                        + ThreadLocalRandom.current().nextInt(5)))
+                        .header("Cookie", pick(admins).cookie())
+                        .build()));
+    }
+
+    private static HttpRequest.Builder get(URI uri) {
+        return HttpRequest.newBuilder(uri).GET();
+    }
+
+    private static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
@@ -0,0 +1,138 @@
+package com.austinscotchlovers.asl_service.benchmark;
+
+import com.austinscotchlovers.asl_service.users.security.Role;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+public final class OpenModelLoadTest {
+
+    static final String DEFAULT_RATES =
+            "events.list=100,events.get=200,events.upcoming=50,profile.get=50,profile.update=10,users.list=5";
+
+    private OpenModelLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        Duration duration = Duration.parse(options.getOrDefault("duration", "PT60S"));
+        Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT10S"));
+        Map<String, Double> rates = parseRates(options.getOrDefault("rates", DEFAULT_RATES));
+        int members = Integer.parseInt(options.getOrDefault("members", "200"));
+        int events = Integer.parseInt(options.getOrDefault("events", "2000"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "10000"));
+        boolean virtualThreads = Boolean.parseBoolean(options.getOrDefault("virtual-threads", "false"));
+        Path reportDir = Path.of(options.getOrDefault("report-dir", "build/reports/load-test"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        try (BenchmarkApplication app = BenchmarkApplication.start("load-test", virtualThreads, 200, events)) {
+            URI baseUri = app.baseUri();
+            List<LoadScenario.Session> memberSessions = login(client, baseUri, app.seedUsers("member", Role.MEMBER, members));
+            List<LoadScenario.Session> adminSessions = login(client, baseUri, app.seedUsers("admin", Role.ADMIN, 2));
+            List<LoadScenario> scenarios = LoadScenario.all(baseUri, app.eventIds(), memberSessions, adminSessions);
+
+            OpenModelRunner runner = new OpenModelRunner(client, maxInFlight);
+            runner.run(scenarios, rates, warmup);
+            Map<String, OpenModelRunner.Result> results = runner.run(scenarios, rates, duration);
+
+            writeReports(reportDir, results, options, virtualThreads);
+        }
+    }
+
+    private static List<LoadScenario.Session> login(HttpClient client, URI baseUri,
+                                                    List<BenchmarkApplication.SeededUser> users) throws IOException, InterruptedException {
+        List<LoadScenario.Session> sessions = new ArrayList<>(users.size());
+        for (BenchmarkApplication.SeededUser user : users) {
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(LoadTestSessions.LOGIN_PATH
+                            + "?email=" + URLEncoder.encode(user.email(), StandardCharsets.UTF_8)))
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            String cookie = response.headers().allValues("Set-Cookie").stream()
+                    .filter(value -> value.startsWith("JSESSIONID="))
+                    .map(value -> value.substring(0, value.indexOf(';') < 0 ? value.length() : value.indexOf(';')))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No session cookie issued for " + user.email()
+                            + " (status " + response.statusCode() + ")"));
+            sessions.add(new LoadScenario.Session(user, cookie));
+        }
+        return sessions;
+    }
+
+    private static void writeReports(Path reportDir, Map<String, OpenModelRunner.Result> results,
+                                     Map<String, String> options, boolean virtualThreads) throws IOException {
+        Files.createDirectories(reportDir);
+        for (OpenModelRunner.Result result : results.values()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(reportDir.resolve(result.scenario() + ".hgrm")),
+                    false, StandardCharsets.UTF_8)) {
+                result.latencyMicros().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+
+        StringBuilder summary = new StringBuilder();
+        summary.append("# Open-model load test\n\n")
+                .append("- Run at: ").append(Instant.now()).append('\n')
+                .append("- JVM: ").append(System.getProperty("java.vm.name")).append(' ').append(Runtime.version()).append('\n')
+                .append("- CPUs: ").append(Runtime.getRuntime().availableProcessors()).append('\n')
+                .append("- Virtual threads: ").append(virtualThreads).append('\n')
+                .append("- Options: ").append(options).append('\n')
+                .append("- Latency is measured from each request's scheduled start, so queueing delay is included.\n\n")
+                .append("| scenario | target/s | achieved/s | sent | failed | dropped | p50 ms | p90 ms | p99 ms | p99.9 ms | max ms | statuses |\n")
+                .append("|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---|\n");
+        for (OpenModelRunner.Result result : results.values()) {
+            summary.append(String.format(Locale.ROOT,
+                    "| %s | %.1f | %.1f | %d | %d | %d | %.2f | %.2f | %.2f | %.2f | %.2f | %s |%n",
+                    result.scenario(), result.targetRate(), result.achievedRate(), result.sent(), result.failed(),
+                    result.dropped(), millis(result, 50), millis(result, 90), millis(result, 99), millis(result, 99.9),
+                    result.latencyMicros().getMaxValue() / 1000.0, result.statuses()));
+        }
+        Files.writeString(reportDir.resolve("summary.md"), summary);
+        System.out.println(summary);
+    }
+
+    private static double millis(OpenModelRunner.Result result, double percentile) {
+        return result.latencyMicros().getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    static Map<String, Double> parseRates(String value) {
+        Map<String, Double> rates = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=", 2);
+            if (parts.length == 2) {
+                rates.put(parts[0].trim(), Double.parseDouble(parts[1].trim()));
+            }
+        }
+        return rates;
+    }
+}
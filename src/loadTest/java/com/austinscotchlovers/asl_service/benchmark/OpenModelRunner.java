@@ -0,0 +1,123 @@
+package com.austinscotchlovers.asl_service.benchmark;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+final class OpenModelRunner {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final HttpClient client;
+    private final int maxInFlight;
+
+    OpenModelRunner(HttpClient client, int maxInFlight) {
+        this.client = client;
+        this.maxInFlight = maxInFlight;
+    }
+
+    record Result(String scenario, double targetRate, Duration duration, Histogram latencyMicros,
+                  long sent, long failed, long dropped, Map<Integer, Long> statuses) {
+
+        double achievedRate() {
+            return latencyMicros.getTotalCount() / (duration.toNanos() / 1e9);
+        }
+    }
+
+    private record Arrival(long intendedNanos, LoadScenario scenario, long intervalNanos) {
+
+        Arrival following() {
+            return new Arrival(intendedNanos + intervalNanos, scenario, intervalNanos);
+        }
+    }
+
+    private static final class Tally {
+        final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder sent = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    }
+
+    Map<String, Result> run(List<LoadScenario> scenarios, Map<String, Double> rates, Duration duration) {
+        Map<String, Tally> tallies = new LinkedHashMap<>();
+        PriorityQueue<Arrival> schedule = new PriorityQueue<>(Comparator.comparingLong(Arrival::intendedNanos));
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (LoadScenario scenario : scenarios) {
+            double rate = rates.getOrDefault(scenario.name(), 0.0);
+            if (rate > 0) {
+                tallies.put(scenario.name(), new Tally());
+                schedule.add(new Arrival(start, scenario, Math.max(1, (long) (1e9 / rate))));
+            }
+        }
+
+        AtomicInteger inFlight = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (!schedule.isEmpty()) {
+                Arrival arrival = schedule.poll();
+                if (arrival.intendedNanos() >= end) {
+                    continue;
+                }
+                long wait = arrival.intendedNanos() - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Tally tally = tallies.get(arrival.scenario().name());
+                if (inFlight.get() >= maxInFlight) {
+                    tally.dropped.increment();
+                } else {
+                    inFlight.incrementAndGet();
+                    executor.submit(() -> {
+                        try {
+                            send(arrival, tally);
+                        } finally {
+                            inFlight.decrementAndGet();
+                        }
+                    });
+                }
+                schedule.add(arrival.following());
+            }
+        }
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        tallies.forEach((name, tally) -> {
+            Map<Integer, Long> statuses = new TreeMap<>();
+            tally.statuses.forEach((status, count) -> statuses.put(status, count.sum()));
+            results.put(name, new Result(name, rates.get(name), duration, tally.histogram,
+                    tally.sent.sum(), tally.failed.sum(), tally.dropped.sum(), statuses));
+        });
+        return results;
+    }
+
+    private void send(Arrival arrival, Tally tally) {
+        tally.sent.increment();
+        int status;
+        try {
+            status = client.send(arrival.scenario().requests().get(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - arrival.intendedNanos());
+        tally.histogram.recordValue(Math.min(Math.max(latencyMicros, 0), HIGHEST_TRACKABLE_MICROS));
+        tally.statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+        if (status < 200 || status >= 400) {
+            tally.failed.increment();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.austinscotchlovers.asl_service.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public final class StartupReport {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+    private static final int TOP_STEPS = 15;
+
+    record Run(double firstResponseMillis, double readyMillis, double firstRequestMillis, JsonNode timeline) {}
+
+    record StepTotal(String name, int count, Duration total) {}
+
+    private StartupReport() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = OpenModelLoadTest.parseOptions(args);
+        Path appDir = Path.of(options.get("app-dir"));
+        String jar = options.get("jar");
+        Path archive = Path.of(options.get("archive"));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        boolean aot = Boolean.parseBoolean(options.getOrDefault("aot", "false"));
+        Path report = Path.of(options.getOrDefault("report", "build/reports/startup/startup.md"));
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        Map<String, List<Run>> results = new LinkedHashMap<>();
+        results.put("baseline", measure(client, objectMapper, appDir, jar, runs, aot, List.of()));
+        if (Files.exists(archive)) {
+            results.put("cds", measure(client, objectMapper, appDir, jar, runs, aot,
+                    List.of("-XX:SharedArchiveFile=" + archive.toAbsolutePath())));
+        }
+
+        String markdown = render(runs, aot, results);
+        Files.createDirectories(report.getParent());
+        Files.writeString(report, markdown);
+        System.out.println(markdown);
+    }
+
+    private static List<Run> measure(HttpClient client, ObjectMapper objectMapper, Path appDir, String jar,
+                                     int runs, boolean aot, List<String> jvmOptions) throws Exception {
+        List<Run> measured = new ArrayList<>(runs);
+        for (int i = 0; i < runs; i++) {
+            measured.add(runOnce(client, objectMapper, appDir, jar, aot, jvmOptions));
+        }
+        return measured;
+    }
+
+    private static Run runOnce(HttpClient client, ObjectMapper objectMapper, Path appDir, String jar,
+                               boolean aot, List<String> jvmOptions) throws Exception {
+        int port = freePort();
+        int managementPort = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(jvmOptions);
+        if (aot) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.addAll(List.of("-jar", jar,
+                "--server.port=" + port,
+                "--management.server.port=" + managementPort,
+                "--spring.security.oauth2.client.registration.google.client-id=startup-report",
+                "--spring.security.oauth2.client.registration.google.client-secret=startup-report",
+                "--logging.level.root=WARN"));
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(appDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            awaitFirstResponse(client, URI.create("http://localhost:" + port + "/api/v1/events"), process);
+            double firstResponseMillis = (System.nanoTime() - started) / 1_000_000.0;
+
+            URI management = URI.create("http://localhost:" + managementPort + "/actuator/");
+            return new Run(firstResponseMillis,
+                    gaugeMillis(client, objectMapper, management.resolve("metrics/application.ready.time")),
+                    gaugeMillis(client, objectMapper, management.resolve("metrics/application.first.request.time")),
+                    objectMapper.readTree(get(client, management.resolve("startup")).body()).path("timeline"));
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static void awaitFirstResponse(HttpClient client, URI uri, Process process) throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with status " + process.exitValue());
+            }
+            if (respondsOk(client, uri)) {
+                return;
+            }
+            Thread.sleep(POLL_INTERVAL);
+        }
+        throw new IllegalStateException("No response from " + uri + " within " + STARTUP_TIMEOUT);
+    }
+
+    private static boolean respondsOk(HttpClient client, URI uri) throws InterruptedException {
+        try {
+            return get(client, uri).statusCode() == 200;
+        } catch (IOException notListening) {
+            return false;
+        }
+    }
+
+    private static double gaugeMillis(HttpClient client, ObjectMapper objectMapper, URI uri)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = get(client, uri);
+        if (response.statusCode() != 200) {
+            return Double.NaN;
+        }
+        return objectMapper.readTree(response.body()).path("measurements").path(0).path("value").asDouble() * 1_000;
+    }
+
+    private static HttpResponse<String> get(HttpClient client, URI uri) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String render(int runs, boolean aot, Map<String, List<Run>> results) {
+        StringBuilder out = new StringBuilder();
+        out.append("# Cold start to first served request\n\n")
+                .append("- Run at: ").append(Instant.now()).append('\n')
+                .append("- JVM: ").append(System.getProperty("java.vm.name")).append(' ').append(Runtime.version()).append('\n')
+                .append("- CPUs: ").append(Runtime.getRuntime().availableProcessors()).append('\n')
+                .append("- Spring AOT: ").append(aot ? "enabled" : "disabled").append('\n')
+                .append("- Fresh JVM per run, ").append(runs).append(" runs per variant\n\n")
+                .append("| variant | first response p50 ms | min ms | max ms | application.ready.time p50 ms | first.request.time p50 ms |\n")
+                .append("|---|---:|---:|---:|---:|---:|\n");
+        results.forEach((variant, measured) -> out.append(String.format(Locale.ROOT,
+                "| %s | %.0f | %.0f | %.0f | %.0f | %.0f |%n",
+                variant,
+                median(measured.stream().mapToDouble(Run::firstResponseMillis).toArray()),
+                measured.stream().mapToDouble(Run::firstResponseMillis).min().orElse(Double.NaN),
+                measured.stream().mapToDouble(Run::firstResponseMillis).max().orElse(Double.NaN),
+                median(measured.stream().mapToDouble(Run::readyMillis).toArray()),
+                median(measured.stream().mapToDouble(Run::firstRequestMillis).toArray()))));
+
+        results.forEach((variant, measured) -> {
+            JsonNode timeline = measured.get(measured.size() - 1).timeline();
+            out.append("\n## Slowest startup steps (").append(variant).append(", last run)\n\n")
+                    .append("| step | count | total ms |\n")
+                    .append("|---|---:|---:|\n");
+            stepTotals(timeline).stream().limit(TOP_STEPS).forEach(step -> out.append(String.format(Locale.ROOT,
+                    "| %s | %d | %.1f |%n", step.name(), step.count(), step.total().toNanos() / 1_000_000.0)));
+            out.append("\n| slowest bean instantiations | ms |\n")
+                    .append("|---|---:|\n");
+            slowestBeans(timeline).forEach((bean, duration) -> out.append(String.format(Locale.ROOT,
+                    "| %s | %.1f |%n", bean, duration.toNanos() / 1_000_000.0)));
+        });
+        return out.toString();
+    }
+
+    private static List<StepTotal> stepTotals(JsonNode timeline) {
+        Map<String, StepTotal> totals = new LinkedHashMap<>();
+        for (JsonNode event : timeline.path("events")) {
+            String name = event.path("startupStep").path("name").asText();
+            Duration duration = duration(event.path("duration"));
+            totals.merge(name, new StepTotal(name, 1, duration),
+                    (a, b) -> new StepTotal(name, a.count() + b.count(), a.total().plus(b.total())));
+        }
+        return totals.values().stream()
+                .sorted(Comparator.comparing(StepTotal::total).reversed())
+                .toList();
+    }
+
+    private static Map<String, Duration> slowestBeans(JsonNode timeline) {
+        Map<String, Duration> beans = new LinkedHashMap<>();
+        List<JsonNode> instantiations = new ArrayList<>();
+        timeline.path("events").forEach(event -> {
+            if (event.path("startupStep").path("name").asText().equals("spring.beans.instantiate")) {
+                instantiations.add(event);
+            }
+        });
+        instantiations.stream()
+                .sorted(Comparator.comparing((JsonNode event) -> duration(event.path("duration"))).reversed())
+                .limit(TOP_STEPS)
+                .forEach(event -> beans.put(beanName(event), duration(event.path("duration"))));
+        return beans;
+    }
+
+    private static String beanName(JsonNode event) {
+        for (JsonNode tag : event.path("startupStep").path("tags")) {
+            if (tag.path("key").asText().equals("beanName")) {
+                return tag.path("value").asText();
+            }
+        }
+        return "?";
+    }
+
+    private static Duration duration(JsonNode node) {
+        return node.isTextual()
+                ? Duration.parse(node.asText())
+                : Duration.ofNanos(Math.round(node.asDouble() * 1_000_000_000));
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted.length == 0 ? Double.NaN : sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,63 @@
+package com.austinscotchlovers.asl_service.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public final class VirtualThreadBenchmark {
+
+    private static final int SEED_EVENTS = 2_000;
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+
+    private VirtualThreadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.parseInt(args[0]);
+        Duration duration = Duration.parse(args[1]);
+        int platformThreads = Integer.parseInt(args[2]);
+        Path report = Path.of(args[3]);
+
+        Map<String, Map<String, LoadDriver.Stats>> results = new LinkedHashMap<>();
+        Map<String, Long> pinned = new LinkedHashMap<>();
+        for (String mode : new String[]{"platform", "virtual"}) {
+            boolean virtualThreads = mode.equals("virtual");
+            try (BenchmarkApplication app = BenchmarkApplication.start(mode, virtualThreads, platformThreads, SEED_EVENTS)) {
+                LoadDriver driver = new LoadDriver(app.baseUri(), app.eventIds());
+                driver.run(concurrency, WARMUP);
+                results.put(mode, driver.run(concurrency, duration));
+                pinned.put(mode, app.pinnedCount());
+            }
+        }
+
+        String markdown = render(concurrency, duration, platformThreads, results, pinned);
+        Files.createDirectories(report.getParent());
+        Files.writeString(report, markdown);
+        System.out.println(markdown);
+    }
+
+    private static String render(int concurrency, Duration duration, int platformThreads,
+                                 Map<String, Map<String, LoadDriver.Stats>> results, Map<String, Long> pinned) {
+        StringBuilder out = new StringBuilder();
+        out.append("# Platform vs virtual thread request handling\n\n")
+                .append("- Run at: ").append(Instant.now()).append('\n')
+                .append("- JVM: ").append(System.getProperty("java.vm.name")).append(' ').append(Runtime.version()).append('\n')
+                .append("- CPUs: ").append(Runtime.getRuntime().availableProcessors()).append('\n')
+                .append("- Closed-model workers: ").append(concurrency).append('\n')
+                .append("- Tomcat platform pool (server.tomcat.threads.max): ").append(platformThreads).append('\n')
+                .append("- Measured for ").append(duration).append(" after ").append(WARMUP).append(" warm-up\n\n")
+                .append("| mode | endpoint | requests | errors | req/s | p50 ms | p99 ms | max ms |\n")
+                .append("|---|---|---:|---:|---:|---:|---:|---:|\n");
+        results.forEach((mode, byEndpoint) -> byEndpoint.forEach((endpoint, stats) -> out.append(String.format(Locale.ROOT,
+                "| %s | %s | %d | %d | %.1f | %.2f | %.2f | %.2f |%n",
+                mode, endpoint, stats.requests(), stats.errors(), stats.throughput(),
+                stats.p50Millis(), stats.p99Millis(), stats.maxMillis()))));
+        out.append("\nVirtual thread pinning events (>= app.diagnostics.pinning.threshold) during the virtual run: ")
+                .append(pinned.getOrDefault("virtual", 0L)).append('\n');
+        return out.toString();
+    }
+}
@@ -1,7 +1,12 @@
 package com.austinscotchlovers.asl_service.config;
 
+import com.austinscotchlovers.asl_service.ratelimit.RateLimitFilter;
+import com.austinscotchlovers.asl_service.ratelimit.RateLimitProperties;
+import com.austinscotchlovers.asl_service.ratelimit.RateLimiter;
 import com.austinscotchlovers.asl_service.users.security.CustomUserDetailsService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -10,12 +15,14 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
 @Configuration
 @EnableMethodSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityConfig {
 
     @Value("${app.api.users-path}")
@@ -25,11 +32,14 @@ public class SecurityConfig {
     private String eventsApiPath;
 
     private static final String API_PATH_WILDCARD = "/**";
+    private static final String AVAILABILITY_PATH = "/availability";
 
     private final CustomUserDetailsService customUserDetailsService;
+    private final RateLimiter rateLimiter;
 
-    public SecurityConfig(CustomUserDetailsService customUserDetailsService) {
+    public SecurityConfig(CustomUserDetailsService customUserDetailsService, RateLimiter rateLimiter) {
         this.customUserDetailsService = customUserDetailsService;
+        this.rateLimiter = rateLimiter;
     }
 
     @Bean
@@ -42,14 +52,17 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers("/").permitAll()
+                        .requestMatchers(EndpointRequest.to("health", "prometheus", "startup")).permitAll()
                         .requestMatchers(HttpMethod.GET, eventsApiPath + API_PATH_WILDCARD).permitAll()
                         .requestMatchers(HttpMethod.POST, eventsApiPath).authenticated()
                         .requestMatchers(HttpMethod.PUT, eventsApiPath + API_PATH_WILDCARD).authenticated()
                         .requestMatchers(HttpMethod.DELETE, eventsApiPath + API_PATH_WILDCARD).authenticated()
                         .requestMatchers(HttpMethod.POST, usersApiPath).permitAll()
+                        .requestMatchers(HttpMethod.GET, usersApiPath + AVAILABILITY_PATH).permitAll()
                         .requestMatchers(usersApiPath + API_PATH_WILDCARD).authenticated()
                         .anyRequest().authenticated()
                 )
+                .addFilterBefore(new RateLimitFilter(rateLimiter), AuthorizationFilter.class)
                 .csrf(AbstractHttpConfigurer::disable)
                 .oauth2Login(withDefaults());
         return http.build();
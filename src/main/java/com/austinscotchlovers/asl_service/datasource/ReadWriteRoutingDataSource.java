@@ -0,0 +1,61 @@
+package com.austinscotchlovers.asl_service.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final Duration replicaRetryAfter;
+    private volatile Instant replicaRetryAt = Instant.MIN;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration replicaRetryAfter) {
+        this.replicaRetryAfter = replicaRetryAfter;
+        setTargetDataSources(Map.<Object, Object>of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && isReplicaAvailable()
+                ? Route.REPLICA
+                : Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() != Route.REPLICA) {
+            return primary().getConnection();
+        }
+        try {
+            return replica().getConnection();
+        } catch (SQLException ex) {
+            replicaRetryAt = Instant.now().plus(replicaRetryAfter);
+            return primary().getConnection();
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return !Instant.now().isBefore(replicaRetryAt);
+    }
+
+    private DataSource primary() {
+        return getResolvedDataSources().get(Route.PRIMARY);
+    }
+
+    private DataSource replica() {
+        return getResolvedDataSources().get(Route.REPLICA);
+    }
+}
@@ -0,0 +1,51 @@
+package com.austinscotchlovers.asl_service.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class FirstRequestTimer implements ApplicationListener<ServletRequestHandledEvent>, MeterBinder {
+
+    private static final long NOT_SERVED = -1;
+
+    private final String managementBasePath;
+    private final AtomicLong firstRequestUptimeMillis = new AtomicLong(NOT_SERVED);
+
+    public FirstRequestTimer(@Value("${management.endpoints.web.base-path:/actuator}") String managementBasePath) {
+        this.managementBasePath = managementBasePath;
+    }
+
+    @Override
+    public void onApplicationEvent(ServletRequestHandledEvent event) {
+        if (firstRequestUptimeMillis.get() != NOT_SERVED
+                || event.wasFailure()
+                || event.getStatusCode() >= 500
+                || event.getRequestUrl().startsWith(managementBasePath)) {
+            return;
+        }
+        firstRequestUptimeMillis.compareAndSet(NOT_SERVED, ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    public long getFirstRequestUptimeMillis() {
+        return firstRequestUptimeMillis.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("application.first.request.time", this, TimeUnit.MILLISECONDS, timer -> {
+                    long uptime = timer.getFirstRequestUptimeMillis();
+                    return uptime == NOT_SERVED ? Double.NaN : uptime;
+                })
+                .description("Time from JVM start until the first application request was served")
+                .register(registry);
+    }
+}
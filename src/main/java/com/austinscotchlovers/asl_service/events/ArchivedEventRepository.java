@@ -0,0 +1,83 @@
+package com.austinscotchlovers.asl_service.events;
+
+import com.austinscotchlovers.asl_service.events.dto.EventDetail;
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedEventRepository extends JpaRepository<ArchivedEvent, Long> {
+
+    @Query("""
+            SELECT new com.austinscotchlovers.asl_service.events.dto.EventSummary(
+                e.id, e.name, e.description, e.date, e.time, e.location)
+            FROM ArchivedEvent e
+            WHERE (:from IS NULL OR e.date >= :from)
+              AND (:to IS NULL OR e.date <= :to)
+            ORDER BY e.date, e.time, e.id
+            """)
+    List<EventSummary> findFirstPage(@Param("from") LocalDate from,
+                                     @Param("to") LocalDate to,
+                                     Limit limit);
+
+    @Query("""
+            SELECT new com.austinscotchlovers.asl_service.events.dto.EventSummary(
+                e.id, e.name, e.description, e.date, e.time, e.location)
+            FROM ArchivedEvent e
+            WHERE (:from IS NULL OR e.date >= :from)
+              AND (:to IS NULL OR e.date <= :to)
+              AND e.date >= :afterDate
+              AND (e.date > :afterDate
+                   OR (e.date = :afterDate AND e.time > :afterTime)
+                   OR (e.date = :afterDate AND e.time = :afterTime AND e.id > :afterId))
+            ORDER BY e.date, e.time, e.id
+            """)
+    List<EventSummary> findPageAfter(@Param("from") LocalDate from,
+                                     @Param("to") LocalDate to,
+                                     @Param("afterDate") LocalDate afterDate,
+                                     @Param("afterTime") LocalTime afterTime,
+                                     @Param("afterId") Long afterId,
+                                     Limit limit);
+
+    @Query("""
+            SELECT new com.austinscotchlovers.asl_service.events.dto.EventDetail(
+                e.id, e.name, e.description, e.date, e.time, e.location, e.capacity, e.attendeeCount, e.version)
+            FROM ArchivedEvent e
+            WHERE e.id = :id
+            """)
+    Optional<EventDetail> findDetailById(@Param("id") Long id);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "events_archive"))
+    @Query(value = """
+            INSERT INTO events_archive
+                (id, name, description, date, time, location, capacity, attendee_count, version, archived_at)
+            SELECT e.id, e.name, e.description, e.date, e.time, e.location, e.capacity,
+                   COALESCE(s.attendee_count, 0), e.version, :archivedAt
+            FROM events e LEFT JOIN event_seats s ON s.event_id = e.id
+            WHERE e.id IN (:eventIds)
+            """, nativeQuery = true)
+    int copyEvents(@Param("eventIds") Collection<Long> eventIds, @Param("archivedAt") Instant archivedAt);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_attended_events_archive"))
+    @Query(value = """
+            INSERT INTO user_attended_events_archive (user_id, event_id)
+            SELECT user_id, event_id FROM user_attended_events WHERE event_id IN (:eventIds)
+            """, nativeQuery = true)
+    int copyAttendance(@Param("eventIds") Collection<Long> eventIds);
+}
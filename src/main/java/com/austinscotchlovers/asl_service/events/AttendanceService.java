@@ -0,0 +1,91 @@
+package com.austinscotchlovers.asl_service.events;
+
+import com.austinscotchlovers.asl_service.events.dto.RsvpResult;
+import com.austinscotchlovers.asl_service.exceptions.EventNotFoundException;
+import com.austinscotchlovers.asl_service.exceptions.RsvpConflictException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Service
+public class AttendanceService {
+
+    private final EventRepository eventRepository;
+    private final EventWaitlistRepository waitlistRepository;
+
+    public AttendanceService(EventRepository eventRepository, EventWaitlistRepository waitlistRepository) {
+        this.eventRepository = eventRepository;
+        this.waitlistRepository = waitlistRepository;
+    }
+
+    @Transactional
+    public RsvpResult attend(Long eventId, Long userId) {
+        requireEvent(eventId);
+        if (eventRepository.countAttendee(eventId, userId) > 0) {
+            return RsvpResult.attending(eventId);
+        }
+        Optional<EventWaitlistEntry> waiting = waitlistRepository.findByEventIdAndUserId(eventId, userId);
+        if (waiting.isPresent()) {
+            return RsvpResult.waitlisted(eventId, waitlistRepository.findPosition(eventId, waiting.get().getId()));
+        }
+
+        try {
+            if (eventRepository.claimSeat(eventId) == 1) {
+                eventRepository.insertAttendee(eventId, userId);
+                return RsvpResult.attending(eventId);
+            }
+            EventWaitlistEntry entry = waitlistRepository.saveAndFlush(new EventWaitlistEntry(eventId, userId, Instant.now()));
+            promoteNext(eventId);
+            if (eventRepository.countAttendee(eventId, userId) > 0) {
+                return RsvpResult.attending(eventId);
+            }
+            return RsvpResult.waitlisted(eventId, waitlistRepository.findPosition(eventId, entry.getId()));
+        } catch (DataIntegrityViolationException e) {
+            throw new RsvpConflictException("An RSVP for event " + eventId + " is already in progress");
+        }
+    }
+
+    @Transactional
+    public void cancel(Long eventId, Long userId) {
+        requireEvent(eventId);
+        if (eventRepository.deleteAttendee(eventId, userId) == 1) {
+            eventRepository.releaseSeat(eventId);
+            promoteNext(eventId);
+            return;
+        }
+        waitlistRepository.deleteByEventIdAndUserId(eventId, userId);
+    }
+
+    @Transactional
+    public int promoteWaitlisted(Long eventId) {
+        int promoted = 0;
+        while (promoteNext(eventId)) {
+            promoted++;
+        }
+        return promoted;
+    }
+
+    private boolean promoteNext(Long eventId) {
+        if (eventRepository.claimSeat(eventId) == 0) {
+            return false;
+        }
+        Optional<EventWaitlistEntry> next;
+        while ((next = waitlistRepository.findFirstByEventIdOrderByIdAsc(eventId)).isPresent()) {
+            if (waitlistRepository.claim(next.get().getId()) == 1) {
+                eventRepository.insertAttendee(eventId, next.get().getUserId());
+                return true;
+            }
+        }
+        eventRepository.releaseSeat(eventId);
+        return false;
+    }
+
+    private void requireEvent(Long eventId) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new EventNotFoundException("Event not found with id: " + eventId);
+        }
+    }
+}
@@ -2,17 +2,22 @@ package com.austinscotchlovers.asl_service.events;
 
 import com.austinscotchlovers.asl_service.users.User;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 
 @Entity
-@Table(name = "events")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
+@Table(name = "events", indexes = @Index(name = "idx_events_date_time", columnList = "date, time, id"))
 public class Event {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", nullable = false)
@@ -30,9 +35,17 @@ public class Event {
     @Column(name = "location")
     private String location;
 
+    @Column(name = "capacity")
+    private Integer capacity;
+
     @ManyToMany(mappedBy = "attendedEvents")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "event-attendees")
     private List<User> attendees;
 
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     public Event() {
     }
 
@@ -93,6 +106,14 @@ public class Event {
         this.location = location;
     }
 
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
     public List<User> getAttendees() {
         return attendees;
     }
@@ -100,4 +121,12 @@ public class Event {
     public void setAttendees(List<User> attendees) {
         this.attendees = attendees;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
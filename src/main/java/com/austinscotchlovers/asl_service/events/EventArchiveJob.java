@@ -0,0 +1,21 @@
+package com.austinscotchlovers.asl_service.events;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.events.archive.enabled", havingValue = "true")
+public class EventArchiveJob {
+
+    private final EventArchiveService archiveService;
+
+    public EventArchiveJob(EventArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    @Scheduled(cron = "${app.events.archive.cron}", zone = "${app.events.time-zone}")
+    public void archivePastEvents() {
+        archiveService.archivePastEvents();
+    }
+}
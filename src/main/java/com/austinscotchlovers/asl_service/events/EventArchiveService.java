@@ -0,0 +1,131 @@
+package com.austinscotchlovers.asl_service.events;
+
+import com.austinscotchlovers.asl_service.events.dto.EventDetail;
+import com.austinscotchlovers.asl_service.events.dto.EventPage;
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
+import com.austinscotchlovers.asl_service.exceptions.EventNotFoundException;
+import com.austinscotchlovers.asl_service.exceptions.InvalidQueryParameterException;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.List;
+
+@Service
+@Timed(value = "asl.events.archive", histogram = true)
+public class EventArchiveService {
+
+    private final EventRepository eventRepository;
+    private final EventWaitlistRepository waitlistRepository;
+    private final ArchivedEventRepository archivedEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Period horizon;
+    private final int batchSize;
+    private final int maxBatches;
+
+    @Autowired
+    public EventArchiveService(EventRepository eventRepository,
+                               EventWaitlistRepository waitlistRepository,
+                               ArchivedEventRepository archivedEventRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.events.time-zone}") ZoneId eventZone,
+                               @Value("${app.events.archive.horizon}") Period horizon,
+                               @Value("${app.events.archive.batch-size}") int batchSize,
+                               @Value("${app.events.archive.max-batches}") int maxBatches) {
+        this(eventRepository, waitlistRepository, archivedEventRepository, eventPublisher, transactionManager,
+                Clock.system(eventZone), horizon, batchSize, maxBatches);
+    }
+
+    EventArchiveService(EventRepository eventRepository,
+                        EventWaitlistRepository waitlistRepository,
+                        ArchivedEventRepository archivedEventRepository,
+                        ApplicationEventPublisher eventPublisher,
+                        PlatformTransactionManager transactionManager,
+                        Clock clock,
+                        Period horizon,
+                        int batchSize,
+                        int maxBatches) {
+        this.eventRepository = eventRepository;
+        this.waitlistRepository = waitlistRepository;
+        this.archivedEventRepository = archivedEventRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.horizon = horizon;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    @Transactional(readOnly = true)
+    public EventPage getArchivedEvents(LocalDate from, LocalDate to, String cursor, int limit) {
+        if (limit < 1) {
+            throw new InvalidQueryParameterException("'limit' must be at least 1.");
+        }
+        int pageSize = Math.min(limit, EventService.MAX_PAGE_SIZE);
+        Limit fetchLimit = Limit.of(pageSize + 1);
+
+        List<EventSummary> events;
+        if (cursor == null || cursor.isBlank()) {
+            events = archivedEventRepository.findFirstPage(from, to, fetchLimit);
+        } else {
+            EventCursor after = EventCursor.decode(cursor);
+            events = archivedEventRepository.findPageAfter(from, to, after.date(), after.time(), after.id(), fetchLimit);
+        }
+
+        if (events.size() <= pageSize) {
+            return new EventPage(events, null);
+        }
+        List<EventSummary> items = events.subList(0, pageSize);
+        return new EventPage(items, EventCursor.of(items.getLast()).encode());
+    }
+
+    @Transactional(readOnly = true)
+    public EventDetail getArchivedEventById(Long id) {
+        return archivedEventRepository.findDetailById(id)
+                .orElseThrow(() -> new EventNotFoundException("Archived event not found with id: " + id));
+    }
+
+    public int archivePastEvents() {
+        return archiveEventsBefore(LocalDate.now(clock).minus(horizon));
+    }
+
+    public int archiveEventsBefore(LocalDate cutoff) {
+        int archived = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            archived += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        return archived;
+    }
+
+    private int archiveBatch(LocalDate cutoff) {
+        List<Long> ids = eventRepository.claimIdsDatedBefore(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedEventRepository.copyEvents(ids, Instant.now(clock));
+        archivedEventRepository.copyAttendance(ids);
+        eventRepository.deleteAttendeesByEventIds(ids);
+        waitlistRepository.deleteByEventIds(ids);
+        eventRepository.deleteByIds(ids);
+        ids.forEach(id -> eventPublisher.publishEvent(EventChange.archived(id)));
+        return ids.size();
+    }
+}
@@ -0,0 +1,28 @@
+package com.austinscotchlovers.asl_service.events;
+
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
+
+public record EventChange(Long id, Type type, EventSummary event) {
+
+    public enum Type {
+        SAVED,
+        DELETED,
+        ARCHIVED
+    }
+
+    public static EventChange saved(EventSummary event) {
+        return new EventChange(event.id(), Type.SAVED, event);
+    }
+
+    public static EventChange deleted(Long id) {
+        return new EventChange(id, Type.DELETED, null);
+    }
+
+    public static EventChange archived(Long id) {
+        return new EventChange(id, Type.ARCHIVED, null);
+    }
+
+    public boolean isDeletion() {
+        return type != Type.SAVED;
+    }
+}
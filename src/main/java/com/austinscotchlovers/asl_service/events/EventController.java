@@ -1,57 +1,265 @@
 package com.austinscotchlovers.asl_service.events;
 
+import com.austinscotchlovers.asl_service.events.dto.BulkEventDeleteResponse;
+import com.austinscotchlovers.asl_service.events.dto.BulkEventResponse;
+import com.austinscotchlovers.asl_service.events.dto.EventDetail;
 import com.austinscotchlovers.asl_service.events.dto.EventDto;
+import com.austinscotchlovers.asl_service.events.dto.EventFilter;
+import com.austinscotchlovers.asl_service.events.dto.EventPage;
+import com.austinscotchlovers.asl_service.events.dto.EventSearchPage;
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
+import com.austinscotchlovers.asl_service.events.dto.RsvpResult;
+import com.austinscotchlovers.asl_service.events.search.EventSearchIndex;
+import com.austinscotchlovers.asl_service.exceptions.MalformedRequestBodyException;
+import com.austinscotchlovers.asl_service.export.ExportFormat;
+import com.austinscotchlovers.asl_service.users.security.CustomUserPrincipal;
+import com.austinscotchlovers.asl_service.web.ETags;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/events")
 public class EventController {
 
     private final EventService eventService;
+    private final EventExportService eventExportService;
+    private final AttendanceService attendanceService;
+    private final EventArchiveService archiveService;
+    private final EventSearchIndex searchIndex;
+    private final EventListSnapshot listSnapshot;
+    private final CacheControl publicCacheControl;
+    private final ZoneId eventZone;
+    private final ObjectReader eventDtoReader;
 
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService,
+                           EventExportService eventExportService,
+                           AttendanceService attendanceService,
+                           EventArchiveService archiveService,
+                           EventSearchIndex searchIndex,
+                           EventListSnapshot listSnapshot,
+                           ObjectMapper objectMapper,
+                           @Value("${app.api.events-cache-max-age}") Duration cacheMaxAge,
+                           @Value("${app.events.time-zone}") ZoneId eventZone) {
         this.eventService = eventService;
+        this.eventExportService = eventExportService;
+        this.attendanceService = attendanceService;
+        this.archiveService = archiveService;
+        this.searchIndex = searchIndex;
+        this.listSnapshot = listSnapshot;
+        this.publicCacheControl = CacheControl.maxAge(cacheMaxAge).cachePublic().mustRevalidate();
+        this.eventZone = eventZone;
+        this.eventDtoReader = objectMapper.readerFor(EventDto.class);
     }
 
     @GetMapping
-    public ResponseEntity<List<Event>> getAllEvents() {
-        return ResponseEntity.ok(eventService.getAllEvents());
+    public ResponseEntity<?> getEvents(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest request) {
+        EventFilter filter = new EventFilter(from, to, location);
+        Optional<EventListSnapshot.Snapshot> snapshot = listSnapshot.lookup(filter, cursor, limit);
+        if (snapshot.isPresent()) {
+            return serveSnapshot(snapshot.get(), request);
+        }
+        EventPage page = eventService.getEvents(filter, cursor, limit);
+        String etag = ETags.digest(cursor, page);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(publicCacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(publicCacheControl)
+                .body(page);
+    }
+
+    @GetMapping("/upcoming")
+    public ResponseEntity<List<EventSummary>> getUpcomingEvents(@RequestParam(defaultValue = "5") int limit) {
+        return ResponseEntity.ok()
+                .cacheControl(publicCacheControl)
+                .body(eventService.getUpcomingEvents(LocalDateTime.now(eventZone), limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<EventSearchPage> searchEvents(@RequestParam String q,
+                                                        @RequestParam(defaultValue = "0") int page,
+                                                        @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok()
+                .cacheControl(publicCacheControl)
+                .body(searchIndex.search(q, page, size));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportEvents(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(exportFormat.fileName("events")).build().toString())
+                .body(out -> eventExportService.exportEvents(exportFormat, out));
+    }
+
+    @GetMapping("/archive")
+    public ResponseEntity<EventPage> getArchivedEvents(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok()
+                .cacheControl(publicCacheControl)
+                .body(archiveService.getArchivedEvents(from, to, cursor, limit));
+    }
+
+    @GetMapping("/archive/{id}")
+    public ResponseEntity<EventDetail> getArchivedEventById(@PathVariable Long id) {
+        EventDetail event = archiveService.getArchivedEventById(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(event.version(), event.attendeeCount()))
+                .cacheControl(publicCacheControl)
+                .body(event);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Event> getEventById(@PathVariable Long id) {
-        Event event = eventService.getEventById(id);
-        return ResponseEntity.ok(event);
+    public ResponseEntity<EventDetail> getEventById(@PathVariable Long id) {
+        EventDetail event = eventService.getEventById(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(event.version(), event.attendeeCount()))
+                .cacheControl(publicCacheControl)
+                .body(event);
     }
 
     @PostMapping
-    public ResponseEntity<Event> createEvent(@Valid @RequestBody EventDto eventDto) {
-        Event createdEvent = eventService.saveEvent(eventDto);
+    public ResponseEntity<EventSummary> createEvent(@Valid @RequestBody EventDto eventDto) {
+        EventSummary createdEvent = eventService.saveEvent(eventDto);
 
         URI location = ServletUriComponentsBuilder
                 .fromCurrentRequest()
                 .path("/{id}")
-                .buildAndExpand(createdEvent.getId())
+                .buildAndExpand(createdEvent.id())
                 .toUri();
 
         return ResponseEntity.created(location).body(createdEvent);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkEventResponse> createEvents(@RequestBody List<EventDto> eventDtos) {
+        return ResponseEntity.ok(eventService.createEvents(eventDtos));
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkEventResponse> createEventsFromNdjson(InputStream body) throws IOException {
+        List<EventDto> eventDtos = new ArrayList<>();
+        try (MappingIterator<EventDto> lines = eventDtoReader.readValues(body)) {
+            while (lines.hasNextValue() && eventDtos.size() <= EventService.MAX_BULK_SIZE) {
+                eventDtos.add(lines.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            throw new MalformedRequestBodyException("Malformed NDJSON event stream: " + e.getOriginalMessage(), e);
+        }
+        return ResponseEntity.ok(eventService.createEvents(eventDtos));
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<Event> updateEvent(@PathVariable Long id, @Valid @RequestBody EventDto updatedEventDto) {
-        Event event = eventService.updateEvent(id, updatedEventDto);
+    public ResponseEntity<EventSummary> updateEvent(@PathVariable Long id,
+                                                    @Valid @RequestBody EventDto updatedEventDto,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        EventSummary event = eventService.updateEvent(id, updatedEventDto, ETags.ifMatchVersion(ifMatch));
         return ResponseEntity.ok(event);
     }
 
+    @DeleteMapping(params = "ids")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkEventDeleteResponse> deleteEvents(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(eventService.deleteEvents(ids));
+    }
+
+    @DeleteMapping(params = {"from", "to"})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkEventDeleteResponse> deleteEventsBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(eventService.deleteEventsBetween(from, to));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteEvent(@PathVariable Long id) {
         eventService.deleteEvent(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/{id}/attendees")
+    public ResponseEntity<RsvpResult> attendEvent(@PathVariable Long id, @AuthenticationPrincipal CustomUserPrincipal principal) {
+        return ResponseEntity.ok(attendanceService.attend(id, principal.id()));
+    }
+
+    @DeleteMapping("/{id}/attendees")
+    public ResponseEntity<Void> cancelAttendance(@PathVariable Long id, @AuthenticationPrincipal CustomUserPrincipal principal) {
+        attendanceService.cancel(id, principal.id());
+        return ResponseEntity.noContent().build();
+    }
+
+    private ResponseEntity<byte[]> serveSnapshot(EventListSnapshot.Snapshot snapshot, WebRequest request) {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? snapshot.gzipEtag() : snapshot.etag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(publicCacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(publicCacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return response.body(snapshot.json());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].strip().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].strip().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
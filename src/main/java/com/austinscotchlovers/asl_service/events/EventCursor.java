@@ -0,0 +1,36 @@
+package com.austinscotchlovers.asl_service.events;
+
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
+import com.austinscotchlovers.asl_service.exceptions.InvalidQueryParameterException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+
+public record EventCursor(LocalDate date, LocalTime time, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static EventCursor of(EventSummary event) {
+        return new EventCursor(event.date(), event.time(), event.id());
+    }
+
+    public static EventCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Unexpected cursor layout");
+            }
+            return new EventCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new InvalidQueryParameterException("Invalid cursor.");
+        }
+    }
+
+    public String encode() {
+        String raw = date + SEPARATOR + time + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
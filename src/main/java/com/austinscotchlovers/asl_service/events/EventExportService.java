@@ -0,0 +1,30 @@
+package com.austinscotchlovers.asl_service.events;
+
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
+import com.austinscotchlovers.asl_service.export.ExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+@Service
+public class EventExportService {
+
+    private final EventRepository eventRepository;
+    private final ObjectMapper objectMapper;
+
+    public EventExportService(EventRepository eventRepository, ObjectMapper objectMapper) {
+        this.eventRepository = eventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public long exportEvents(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<EventSummary> events = eventRepository.streamAllSummaries()) {
+            return format.open(EventSummary.class, out, objectMapper).writeAll(events);
+        }
+    }
+}
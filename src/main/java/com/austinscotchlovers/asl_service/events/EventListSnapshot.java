@@ -0,0 +1,91 @@
+package com.austinscotchlovers.asl_service.events;
+
+import com.austinscotchlovers.asl_service.events.dto.EventFilter;
+import com.austinscotchlovers.asl_service.events.dto.EventPage;
+import com.austinscotchlovers.asl_service.web.ETags;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+public class EventListSnapshot {
+
+    static final int DEFAULT_LIMIT = 20;
+
+    public record Snapshot(long generation, String etag, String gzipEtag, byte[] json, byte[] gzip) {}
+
+    private final EventService eventService;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public EventListSnapshot(EventService eventService, ObjectMapper objectMapper) {
+        this.eventService = eventService;
+        this.objectMapper = objectMapper;
+    }
+
+    public Optional<Snapshot> lookup(EventFilter filter, String cursor, int limit) {
+        if (!EventFilter.none().equals(filter) || (cursor != null && !cursor.isBlank()) || limit != DEFAULT_LIMIT) {
+            return Optional.empty();
+        }
+        return Optional.of(current());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        generation.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.list-snapshot.refresh-interval}",
+            initialDelayString = "${app.events.list-snapshot.refresh-interval}")
+    public void refresh() {
+        generation.incrementAndGet();
+    }
+
+    Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && current.generation() == generation.get()) {
+            return current;
+        }
+        rebuildLock.lock();
+        try {
+            long target = generation.get();
+            current = snapshot;
+            if (current == null || current.generation() != target) {
+                current = build(target);
+                snapshot = current;
+            }
+            return current;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Snapshot build(long target) {
+        EventPage page = eventService.getEvents(EventFilter.none(), null, DEFAULT_LIMIT);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(page);
+            return new Snapshot(target, ETags.digest(null, page), ETags.digest(null, page, "gzip"), json, gzip(json));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        }
+        return compressed.toByteArray();
+    }
+}
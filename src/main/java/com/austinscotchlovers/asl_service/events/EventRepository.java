@@ -1,8 +1,150 @@
 package com.austinscotchlovers.asl_service.events;
 
+import com.austinscotchlovers.asl_service.events.dto.EventDetail;
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("""
+            SELECT new com.austinscotchlovers.asl_service.events.dto.EventSummary(
+                e.id, e.name, e.description, e.date, e.time, e.location)
+            FROM Event e
+            WHERE (:from IS NULL OR e.date >= :from)
+              AND (:to IS NULL OR e.date <= :to)
+              AND (:location IS NULL OR LOWER(e.location) LIKE LOWER(CONCAT('%', :location, '%')) ESCAPE '!')
+            ORDER BY e.date, e.time, e.id
+            """)
+    List<EventSummary> findFirstPage(@Param("from") LocalDate from,
+                                     @Param("to") LocalDate to,
+                                     @Param("location") String location,
+                                     Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("""
+            SELECT new com.austinscotchlovers.asl_service.events.dto.EventSummary(
+                e.id, e.name, e.description, e.date, e.time, e.location)
+            FROM Event e
+            WHERE (:from IS NULL OR e.date >= :from)
+              AND (:to IS NULL OR e.date <= :to)
+              AND (:location IS NULL OR LOWER(e.location) LIKE LOWER(CONCAT('%', :location, '%')) ESCAPE '!')
+              AND e.date >= :afterDate
+              AND (e.date > :afterDate
+                   OR (e.date = :afterDate AND e.time > :afterTime)
+                   OR (e.date = :afterDate AND e.time = :afterTime AND e.id > :afterId))
+            ORDER BY e.date, e.time, e.id
+            """)
+    List<EventSummary> findPageAfter(@Param("from") LocalDate from,
+                                     @Param("to") LocalDate to,
+                                     @Param("location") String location,
+                                     @Param("afterDate") LocalDate afterDate,
+                                     @Param("afterTime") LocalTime afterTime,
+                                     @Param("afterId") Long afterId,
+                                     Limit limit);
+
+    @Query("""
+            SELECT new com.austinscotchlovers.asl_service.events.dto.EventSummary(
+                e.id, e.name, e.description, e.date, e.time, e.location)
+            FROM Event e
+            WHERE e.date >= :today
+              AND (e.date > :today OR e.time >= :now)
+            ORDER BY e.date, e.time, e.id
+            """)
+    List<EventSummary> findUpcoming(@Param("today") LocalDate today,
+                                    @Param("now") LocalTime now,
+                                    Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("""
+            SELECT new com.austinscotchlovers.asl_service.events.dto.EventDetail(
+                e.id, e.name, e.description, e.date, e.time, e.location, e.capacity, COALESCE(s.attendeeCount, 0), e.version)
+            FROM Event e LEFT JOIN EventSeats s ON s.eventId = e.id
+            WHERE e.id = :id
+            """)
+    Optional<EventDetail> findDetailById(@Param("id") Long id);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_seats"))
+    @Query(value = "INSERT INTO event_seats (event_id, attendee_count) SELECT id, 0 FROM events WHERE id IN (:eventIds)", nativeQuery = true)
+    int openSeats(@Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_seats"))
+    @Query(value = """
+            UPDATE event_seats SET attendee_count = attendee_count + 1
+            WHERE event_id = :id
+              AND NOT EXISTS (SELECT 1 FROM events e WHERE e.id = event_seats.event_id AND e.capacity <= event_seats.attendee_count)
+            """, nativeQuery = true)
+    int claimSeat(@Param("id") Long id);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_seats"))
+    @Query(value = "UPDATE event_seats SET attendee_count = attendee_count - 1 WHERE event_id = :id AND attendee_count > 0", nativeQuery = true)
+    int releaseSeat(@Param("id") Long id);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_attended_events"))
+    @Query(value = "INSERT INTO user_attended_events (user_id, event_id) VALUES (:userId, :eventId)", nativeQuery = true)
+    void insertAttendee(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_attended_events"))
+    @Query(value = "DELETE FROM user_attended_events WHERE user_id = :userId AND event_id = :eventId", nativeQuery = true)
+    int deleteAttendee(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_attended_events"))
+    @Query(value = "DELETE FROM user_attended_events WHERE event_id IN (:eventIds)", nativeQuery = true)
+    int deleteAttendeesByEventIds(@Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @Query("DELETE FROM Event e WHERE e.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT e.id FROM Event e WHERE e.date >= :from AND e.date <= :to AND e.id > :afterId ORDER BY e.id")
+    List<Long> findIdsByDateBetween(@Param("from") LocalDate from,
+                                    @Param("to") LocalDate to,
+                                    @Param("afterId") long afterId,
+                                    Limit limit);
+
+    @Query(value = """
+            SELECT id FROM events
+            WHERE date < :cutoff
+            ORDER BY date, time, id
+            FETCH FIRST :limit ROWS ONLY
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> claimIdsDatedBefore(@Param("cutoff") LocalDate cutoff, @Param("limit") int limit);
+
+    @Query(value = "SELECT COUNT(*) FROM user_attended_events WHERE user_id = :userId AND event_id = :eventId", nativeQuery = true)
+    long countAttendee(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.austinscotchlovers.asl_service.events.dto.EventSummary(
+                e.id, e.name, e.description, e.date, e.time, e.location)
+            FROM Event e
+            ORDER BY e.date, e.time, e.id
+            """)
+    Stream<EventSummary> streamAllSummaries();
 }
@@ -0,0 +1,26 @@
+package com.austinscotchlovers.asl_service.events;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "event_seats")
+public class EventSeats {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "attendee_count", nullable = false, insertable = false, updatable = false)
+    private int attendeeCount;
+
+    public EventSeats() {
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public int getAttendeeCount() {
+        return attendeeCount;
+    }
+}
@@ -1,49 +1,233 @@
 package com.austinscotchlovers.asl_service.events;
 
+import com.austinscotchlovers.asl_service.events.dto.BulkEventDeleteResponse;
+import com.austinscotchlovers.asl_service.events.dto.BulkEventResponse;
+import com.austinscotchlovers.asl_service.events.dto.BulkEventResult;
+import com.austinscotchlovers.asl_service.events.dto.EventDetail;
 import com.austinscotchlovers.asl_service.events.dto.EventDto;
+import com.austinscotchlovers.asl_service.events.dto.EventFilter;
+import com.austinscotchlovers.asl_service.events.dto.EventPage;
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
 import com.austinscotchlovers.asl_service.events.mapper.EventMapper;
 import com.austinscotchlovers.asl_service.exceptions.EventNotFoundException;
+import com.austinscotchlovers.asl_service.exceptions.InvalidQueryParameterException;
+import com.austinscotchlovers.asl_service.exceptions.PayloadTooLargeException;
+import com.austinscotchlovers.asl_service.exceptions.PreconditionFailedException;
+import com.austinscotchlovers.asl_service.persistence.LikePatterns;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
+@Timed(value = "asl.events.service", histogram = true)
 public class EventService {
 
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_BULK_SIZE = 1000;
+
     private final EventRepository eventRepository;
+    private final EventWaitlistRepository waitlistRepository;
+    private final AttendanceService attendanceService;
+    private final ArchivedEventRepository archivedEventRepository;
     private final EventMapper eventMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private record DeletedChunk(List<Long> ids, int deleted) {}
 
-    public EventService(EventRepository eventRepository,  EventMapper eventMapper) {
+    public EventService(EventRepository eventRepository, EventWaitlistRepository waitlistRepository,
+                        AttendanceService attendanceService, ArchivedEventRepository archivedEventRepository,
+                        EventMapper eventMapper, Validator validator, ApplicationEventPublisher eventPublisher,
+                        PlatformTransactionManager transactionManager) {
         this.eventRepository = eventRepository;
+        this.waitlistRepository = waitlistRepository;
+        this.attendanceService = attendanceService;
+        this.archivedEventRepository = archivedEventRepository;
         this.eventMapper = eventMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
-    public List<Event> getAllEvents() {
-        return new ArrayList<>(eventRepository.findAll());
+    @Transactional(readOnly = true)
+    public EventPage getEvents(EventFilter filter, String cursor, int limit) {
+        if (limit < 1) {
+            throw new InvalidQueryParameterException("'limit' must be at least 1.");
+        }
+        int pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        Limit fetchLimit = Limit.of(pageSize + 1);
+
+        String location = LikePatterns.escape(filter.location());
+        List<EventSummary> events;
+        if (cursor == null || cursor.isBlank()) {
+            events = eventRepository.findFirstPage(filter.from(), filter.to(), location, fetchLimit);
+        } else {
+            EventCursor after = EventCursor.decode(cursor);
+            events = eventRepository.findPageAfter(filter.from(), filter.to(), location,
+                    after.date(), after.time(), after.id(), fetchLimit);
+        }
+
+        if (events.size() <= pageSize) {
+            return new EventPage(events, null);
+        }
+        List<EventSummary> items = events.subList(0, pageSize);
+        return new EventPage(items, EventCursor.of(items.getLast()).encode());
     }
 
-    public Event getEventById(Long id) {
-        return eventRepository.findById(id)
+    @Transactional(readOnly = true)
+    public List<EventSummary> getUpcomingEvents(LocalDateTime now, int limit) {
+        if (limit < 1) {
+            throw new InvalidQueryParameterException("'limit' must be at least 1.");
+        }
+        return eventRepository.findUpcoming(now.toLocalDate(), now.toLocalTime(), Limit.of(Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    @Transactional(readOnly = true)
+    public EventDetail getEventById(Long id) {
+        return eventRepository.findDetailById(id)
+                .or(() -> archivedEventRepository.findDetailById(id))
                 .orElseThrow(() -> new EventNotFoundException("Event not found with id: " + id));
     }
 
-    public Event saveEvent(EventDto eventDto) {
+    @Transactional
+    public EventSummary saveEvent(EventDto eventDto) {
         Event event = eventMapper.fromDto(eventDto);
-        return eventRepository.save(event);
+        EventSummary saved = eventMapper.toSummary(eventRepository.saveAndFlush(event));
+        eventRepository.openSeats(List.of(saved.id()));
+        eventPublisher.publishEvent(EventChange.saved(saved));
+        return saved;
+    }
+
+    @Transactional
+    public BulkEventResponse createEvents(List<EventDto> eventDtos) {
+        if (eventDtos.size() > MAX_BULK_SIZE) {
+            throw new PayloadTooLargeException("A bulk request may contain at most " + MAX_BULK_SIZE + " events.");
+        }
+
+        BulkEventResult[] results = new BulkEventResult[eventDtos.size()];
+        List<Event> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        for (int i = 0; i < eventDtos.size(); i++) {
+            EventDto eventDto = eventDtos.get(i);
+            if (eventDto == null) {
+                results[i] = BulkEventResult.rejected(i, List.of("Event is required."));
+                continue;
+            }
+            Set<ConstraintViolation<EventDto>> violations = validator.validate(eventDto);
+            if (!violations.isEmpty()) {
+                results[i] = BulkEventResult.rejected(i, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .toList());
+                continue;
+            }
+            accepted.add(eventMapper.fromDto(eventDto));
+            acceptedIndexes.add(i);
+        }
+
+        List<Event> saved = eventRepository.saveAllAndFlush(accepted);
+        if (!saved.isEmpty()) {
+            eventRepository.openSeats(saved.stream().map(Event::getId).toList());
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results[index] = BulkEventResult.created(index, saved.get(i).getId());
+            eventPublisher.publishEvent(EventChange.saved(eventMapper.toSummary(saved.get(i))));
+        }
+        return new BulkEventResponse(saved.size(), eventDtos.size() - saved.size(), Arrays.asList(results));
     }
 
-    public Event updateEvent(Long id, EventDto updatedEventDto) {
+    @Transactional
+    public EventSummary updateEvent(Long id, EventDto updatedEventDto, Long expectedVersion) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new EventNotFoundException("Event not found with id: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(event.getVersion())) {
+            throw new PreconditionFailedException("Event " + id + " has been modified since version " + expectedVersion);
+        }
+        Integer previousCapacity = event.getCapacity();
         eventMapper.updateEventFromDto(updatedEventDto, event);
-        return eventRepository.save(event);
+        EventSummary updated;
+        try {
+            updated = eventMapper.toSummary(eventRepository.saveAndFlush(event));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new PreconditionFailedException("Event " + id + " was modified concurrently");
+        }
+        if (isRaised(previousCapacity, event.getCapacity())) {
+            attendanceService.promoteWaitlisted(id);
+        }
+        eventPublisher.publishEvent(EventChange.saved(updated));
+        return updated;
     }
 
+    @Transactional
     public void deleteEvent(Long id) {
-        if (!eventRepository.existsById(id)) {
+        if (delete(List.of(id)) == 0) {
             throw new EventNotFoundException("Event not found with id: " + id);
         }
-        eventRepository.deleteById(id);
+    }
+
+    @Transactional
+    public BulkEventDeleteResponse deleteEvents(Collection<Long> ids) {
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new PayloadTooLargeException("A bulk request may delete at most " + MAX_BULK_SIZE + " events.");
+        }
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        return new BulkEventDeleteResponse(distinctIds.size(), delete(distinctIds));
+    }
+
+    public BulkEventDeleteResponse deleteEventsBetween(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new InvalidQueryParameterException("'from' must not be after 'to'.");
+        }
+        int requested = 0;
+        int deleted = 0;
+        long afterId = 0;
+        while (true) {
+            long after = afterId;
+            DeletedChunk chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = eventRepository.findIdsByDateBetween(from, to, after, Limit.of(MAX_BULK_SIZE));
+                return new DeletedChunk(ids, delete(ids));
+            });
+            requested += chunk.ids().size();
+            deleted += chunk.deleted();
+            if (chunk.ids().size() < MAX_BULK_SIZE) {
+                return new BulkEventDeleteResponse(requested, deleted);
+            }
+            afterId = chunk.ids().getLast();
+        }
+    }
+
+    private int delete(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        eventRepository.deleteAttendeesByEventIds(ids);
+        waitlistRepository.deleteByEventIds(ids);
+        int deleted = eventRepository.deleteByIds(ids);
+        if (deleted > 0) {
+            ids.forEach(id -> eventPublisher.publishEvent(EventChange.deleted(id)));
+        }
+        return deleted;
+    }
+
+    private static boolean isRaised(Integer previousCapacity, Integer capacity) {
+        return previousCapacity != null && (capacity == null || capacity > previousCapacity);
     }
 }
@@ -0,0 +1,54 @@
+package com.austinscotchlovers.asl_service.events;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "event_waitlist",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "user_id"}),
+        indexes = @Index(name = "idx_event_waitlist_event_id", columnList = "event_id, id"))
+public class EventWaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public EventWaitlistEntry() {
+    }
+
+    public EventWaitlistEntry(Long eventId, Long userId, Instant createdAt) {
+        this.eventId = eventId;
+        this.userId = userId;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
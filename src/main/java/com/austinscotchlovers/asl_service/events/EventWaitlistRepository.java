@@ -0,0 +1,33 @@
+package com.austinscotchlovers.asl_service.events;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface EventWaitlistRepository extends JpaRepository<EventWaitlistEntry, Long> {
+
+    Optional<EventWaitlistEntry> findByEventIdAndUserId(Long eventId, Long userId);
+
+    Optional<EventWaitlistEntry> findFirstByEventIdOrderByIdAsc(Long eventId);
+
+    @Query("SELECT COUNT(w) FROM EventWaitlistEntry w WHERE w.eventId = :eventId AND w.id <= :id")
+    long findPosition(@Param("eventId") Long eventId, @Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM EventWaitlistEntry w WHERE w.id = :id")
+    int claim(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM EventWaitlistEntry w WHERE w.eventId = :eventId AND w.userId = :userId")
+    int deleteByEventIdAndUserId(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM EventWaitlistEntry w WHERE w.eventId IN :eventIds")
+    int deleteByEventIds(@Param("eventIds") Collection<Long> eventIds);
+}
@@ -0,0 +1,3 @@
+package com.austinscotchlovers.asl_service.events.dto;
+
+public record BulkEventDeleteResponse(int requested, int deleted) {}
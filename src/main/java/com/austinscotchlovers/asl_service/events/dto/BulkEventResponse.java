@@ -0,0 +1,5 @@
+package com.austinscotchlovers.asl_service.events.dto;
+
+import java.util.List;
+
+public record BulkEventResponse(int created, int rejected, List<BulkEventResult> results) {}
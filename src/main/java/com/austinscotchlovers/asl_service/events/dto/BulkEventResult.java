@@ -0,0 +1,14 @@
+package com.austinscotchlovers.asl_service.events.dto;
+
+import java.util.List;
+
+public record BulkEventResult(int index, Long id, List<String> errors) {
+
+    public static BulkEventResult created(int index, Long id) {
+        return new BulkEventResult(index, id, List.of());
+    }
+
+    public static BulkEventResult rejected(int index, List<String> errors) {
+        return new BulkEventResult(index, null, errors);
+    }
+}
@@ -0,0 +1,16 @@
+package com.austinscotchlovers.asl_service.events.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record EventDetail(
+        Long id,
+        String name,
+        String description,
+        LocalDate date,
+        LocalTime time,
+        String location,
+        Integer capacity,
+        int attendeeCount,
+        Long version
+) {}
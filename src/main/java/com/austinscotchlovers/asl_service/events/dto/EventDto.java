@@ -2,6 +2,7 @@ package com.austinscotchlovers.asl_service.events.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalDate;
@@ -22,5 +23,13 @@ public record EventDto(
         LocalTime time,
 
         @NotBlank(message = "Location is required.")
-        String location
-) {}
\ No newline at end of file
+        String location,
+
+        @Positive(message = "Capacity must be positive.")
+        Integer capacity
+) {
+
+    public EventDto(String name, String description, LocalDate date, LocalTime time, String location) {
+        this(name, description, date, time, location, null);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.austinscotchlovers.asl_service.events.dto;
+
+import com.austinscotchlovers.asl_service.exceptions.InvalidQueryParameterException;
+
+import java.time.LocalDate;
+
+public record EventFilter(
+        LocalDate from,
+        LocalDate to,
+        String location
+) {
+    public EventFilter {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidQueryParameterException("'from' must not be after 'to'.");
+        }
+        location = location == null || location.isBlank() ? null : location.strip();
+    }
+
+    public static EventFilter none() {
+        return new EventFilter(null, null, null);
+    }
+}
@@ -0,0 +1,8 @@
+package com.austinscotchlovers.asl_service.events.dto;
+
+import java.util.List;
+
+public record EventPage(
+        List<EventSummary> items,
+        String next
+) {}
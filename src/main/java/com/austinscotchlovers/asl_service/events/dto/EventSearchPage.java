@@ -0,0 +1,5 @@
+package com.austinscotchlovers.asl_service.events.dto;
+
+import java.util.List;
+
+public record EventSearchPage(List<EventSearchHit> items, int page, int size, long total) {}
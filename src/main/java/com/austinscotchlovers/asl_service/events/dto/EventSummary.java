@@ -0,0 +1,13 @@
+package com.austinscotchlovers.asl_service.events.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record EventSummary(
+        Long id,
+        String name,
+        String description,
+        LocalDate date,
+        LocalTime time,
+        String location
+) {}
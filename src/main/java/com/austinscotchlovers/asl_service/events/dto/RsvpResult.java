@@ -0,0 +1,12 @@
+package com.austinscotchlovers.asl_service.events.dto;
+
+public record RsvpResult(Long eventId, RsvpStatus status, Long waitlistPosition) {
+
+    public static RsvpResult attending(Long eventId) {
+        return new RsvpResult(eventId, RsvpStatus.ATTENDING, null);
+    }
+
+    public static RsvpResult waitlisted(Long eventId, long position) {
+        return new RsvpResult(eventId, RsvpStatus.WAITLISTED, position);
+    }
+}
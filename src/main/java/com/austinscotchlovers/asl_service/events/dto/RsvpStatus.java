@@ -0,0 +1,6 @@
+package com.austinscotchlovers.asl_service.events.dto;
+
+public enum RsvpStatus {
+    ATTENDING,
+    WAITLISTED
+}
@@ -2,6 +2,7 @@ package com.austinscotchlovers.asl_service.events.mapper;
 
 import com.austinscotchlovers.asl_service.events.Event;
 import com.austinscotchlovers.asl_service.events.dto.EventDto;
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
 import org.mapstruct.*;
 
 @Mapper(componentModel = "spring")
@@ -10,10 +11,14 @@ public interface EventMapper {
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "attendees", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Event fromDto(EventDto dto);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "attendees", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEventFromDto(EventDto dto, @MappingTarget Event event);
+
+    EventSummary toSummary(Event event);
 }
@@ -0,0 +1,192 @@
+package com.austinscotchlovers.asl_service.events.search;
+
+import com.austinscotchlovers.asl_service.events.dto.EventSearchHit;
+import com.austinscotchlovers.asl_service.events.dto.EventSearchPage;
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
+import com.austinscotchlovers.asl_service.exceptions.InvalidQueryParameterException;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Component
+public class EventSearchIndex {
+
+    static final int MAX_PAGE_SIZE = 100;
+    static final int NAME_WEIGHT = 3;
+    static final int LOCATION_WEIGHT = 2;
+    static final int DESCRIPTION_WEIGHT = 1;
+    static final double PREFIX_MATCH_FACTOR = 0.5;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Comparator<EventSearchHit> RANKING = Comparator
+            .comparingDouble(EventSearchHit::score).reversed()
+            .thenComparing(hit -> hit.event().date(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(hit -> hit.event().time(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(hit -> hit.event().id());
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Segment segment = new Segment();
+    private List<Consumer<Segment>> pendingChanges;
+
+    private record IndexedEvent(EventSummary event, Set<String> terms) {}
+
+    private static final class Segment {
+
+        private final ConcurrentSkipListMap<String, Map<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+        private final Map<Long, IndexedEvent> documents = new ConcurrentHashMap<>();
+
+        void index(EventSummary event) {
+            remove(event.id());
+            Map<String, Integer> terms = new HashMap<>();
+            addTerms(terms, event.name(), NAME_WEIGHT);
+            addTerms(terms, event.location(), LOCATION_WEIGHT);
+            addTerms(terms, event.description(), DESCRIPTION_WEIGHT);
+            terms.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(event.id(), weight));
+            documents.put(event.id(), new IndexedEvent(event, terms.keySet()));
+        }
+
+        void remove(Long id) {
+            IndexedEvent previous = documents.remove(id);
+            if (previous == null) {
+                return;
+            }
+            for (String term : previous.terms()) {
+                postings.computeIfPresent(term, (t, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+    }
+
+    public void index(EventSummary event) {
+        apply(current -> current.index(event));
+    }
+
+    public void remove(Long id) {
+        apply(current -> current.remove(id));
+    }
+
+    public void replaceAll(Stream<EventSummary> events) {
+        rebuildLock.lock();
+        try {
+            Segment rebuilt = new Segment();
+            capturePendingChanges(new ArrayList<>());
+            try {
+                events.forEach(rebuilt::index);
+                swap(rebuilt);
+            } finally {
+                capturePendingChanges(null);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public int size() {
+        return segment.documents.size();
+    }
+
+    private void capturePendingChanges(List<Consumer<Segment>> changes) {
+        writeLock.lock();
+        try {
+            pendingChanges = changes;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void swap(Segment rebuilt) {
+        writeLock.lock();
+        try {
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            segment = rebuilt;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void apply(Consumer<Segment> change) {
+        writeLock.lock();
+        try {
+            change.accept(segment);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public EventSearchPage search(String query, int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new InvalidQueryParameterException("'page' must be at least 0 and 'size' at least 1.");
+        }
+        List<String> queryTerms = tokenize(query).distinct().toList();
+        if (queryTerms.isEmpty()) {
+            throw new InvalidQueryParameterException("'q' must contain at least one letter or digit.");
+        }
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+        Segment current = segment;
+
+        Map<Long, Double> scores = null;
+        for (String term : queryTerms) {
+            Map<Long, Double> termScores = scoreTerm(current, term);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+
+        List<EventSearchHit> hits = new ArrayList<>(scores.size());
+        scores.forEach((id, score) -> {
+            IndexedEvent document = current.documents.get(id);
+            if (document != null) {
+                hits.add(new EventSearchHit(document.event(), score));
+            }
+        });
+        hits.sort(RANKING);
+
+        int fromIndex = (int) Math.min((long) page * pageSize, hits.size());
+        int toIndex = Math.min(fromIndex + pageSize, hits.size());
+        return new EventSearchPage(List.copyOf(hits.subList(fromIndex, toIndex)), page, pageSize, hits.size());
+    }
+
+    private static Map<Long, Double> scoreTerm(Segment segment, String term) {
+        Map<Long, Double> termScores = new HashMap<>();
+        int documentCount = Math.max(segment.documents.size(), 1);
+        for (Map.Entry<String, Map<Long, Integer>> posting : segment.postings.subMap(term, term + Character.MAX_VALUE).entrySet()) {
+            Map<Long, Integer> ids = posting.getValue();
+            double idf = Math.log(1.0 + (double) documentCount / Math.max(ids.size(), 1));
+            double match = posting.getKey().equals(term) ? 1.0 : PREFIX_MATCH_FACTOR;
+            ids.forEach((id, weight) -> termScores.merge(id, weight * idf * match, Math::max));
+        }
+        return termScores;
+    }
+
+    private static void addTerms(Map<String, Integer> terms, String text, int weight) {
+        tokenize(text).forEach(term -> terms.merge(term, weight, Integer::sum));
+    }
+
+    static Stream<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Stream.empty();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.splitAsStream(folded.toLowerCase(Locale.ROOT)).filter(term -> !term.isEmpty());
+    }
+}
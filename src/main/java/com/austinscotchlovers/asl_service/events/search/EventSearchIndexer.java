@@ -0,0 +1,44 @@
+package com.austinscotchlovers.asl_service.events.search;
+
+import com.austinscotchlovers.asl_service.events.EventChange;
+import com.austinscotchlovers.asl_service.events.EventRepository;
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.stream.Stream;
+
+@Component
+public class EventSearchIndexer {
+
+    private final EventSearchIndex searchIndex;
+    private final EventRepository eventRepository;
+
+    public EventSearchIndexer(EventSearchIndex searchIndex, EventRepository eventRepository) {
+        this.searchIndex = searchIndex;
+        this.eventRepository = eventRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.events.search.rebuild-interval}",
+            initialDelayString = "${app.events.search.rebuild-interval}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        try (Stream<EventSummary> events = eventRepository.streamAllSummaries()) {
+            searchIndex.replaceAll(events);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        if (change.isDeletion()) {
+            searchIndex.remove(change.id());
+        } else {
+            searchIndex.index(change.event());
+        }
+    }
+}
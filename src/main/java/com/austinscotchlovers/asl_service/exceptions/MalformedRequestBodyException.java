@@ -0,0 +1,11 @@
+package com.austinscotchlovers.asl_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class MalformedRequestBodyException extends RuntimeException {
+    public MalformedRequestBodyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
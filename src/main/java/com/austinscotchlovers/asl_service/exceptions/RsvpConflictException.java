@@ -0,0 +1,11 @@
+package com.austinscotchlovers.asl_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class RsvpConflictException extends RuntimeException {
+    public RsvpConflictException(String message) {
+        super(message);
+    }
+}
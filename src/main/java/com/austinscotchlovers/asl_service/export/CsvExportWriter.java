@@ -0,0 +1,56 @@
+package com.austinscotchlovers.asl_service.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+
+class CsvExportWriter<T extends Record> implements ExportWriter<T> {
+
+    private final Writer out;
+    private final RecordComponent[] columns;
+
+    CsvExportWriter(Class<T> type, OutputStream out) throws IOException {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.columns = type.getRecordComponents();
+        for (int i = 0; i < columns.length; i++) {
+            writeCell(i, columns[i].getName());
+        }
+        this.out.write("\r\n");
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        for (int i = 0; i < columns.length; i++) {
+            Object value;
+            try {
+                value = columns[i].getAccessor().invoke(row);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot read column " + columns[i].getName(), e);
+            }
+            writeCell(i, value == null ? "" : value.toString());
+        }
+        out.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void writeCell(int index, String value) throws IOException {
+        if (index > 0) {
+            out.write(',');
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
@@ -0,0 +1,28 @@
+package com.austinscotchlovers.asl_service.export;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+public interface ExportWriter<T extends Record> {
+
+    int FLUSH_INTERVAL = 500;
+
+    void write(T row) throws IOException;
+
+    void flush() throws IOException;
+
+    default long writeAll(Stream<T> rows) throws IOException {
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            write(iterator.next());
+            count++;
+            if (count == 1 || count % FLUSH_INTERVAL == 0) {
+                flush();
+            }
+        }
+        flush();
+        return count;
+    }
+}
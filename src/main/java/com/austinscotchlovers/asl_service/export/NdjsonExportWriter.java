@@ -0,0 +1,29 @@
+package com.austinscotchlovers.asl_service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+class NdjsonExportWriter<T extends Record> implements ExportWriter<T> {
+
+    private final OutputStream out;
+    private final ObjectWriter rowWriter;
+
+    NdjsonExportWriter(Class<T> type, OutputStream out, ObjectMapper objectMapper) {
+        this.out = out;
+        this.rowWriter = objectMapper.writerFor(type);
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        out.write(rowWriter.writeValueAsBytes(row));
+        out.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+}
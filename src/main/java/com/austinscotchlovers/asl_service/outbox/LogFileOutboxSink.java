@@ -0,0 +1,85 @@
+package com.austinscotchlovers.asl_service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@ConditionalOnProperty(name = "app.outbox.log-file.enabled", havingValue = "true")
+public class LogFileOutboxSink implements OutboxSink {
+
+    private final Path path;
+    private final long maxSize;
+    private final int maxHistory;
+    private final ObjectMapper objectMapper;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public LogFileOutboxSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        OutboxProperties.LogFile logFile = properties.logFile();
+        if (logFile.path() == null || !logFile.path().isAbsolute()) {
+            throw new IllegalStateException(
+                    "'app.outbox.log-file.path' must be an absolute path when the outbox log file is enabled, but was: "
+                            + logFile.path());
+        }
+        this.path = logFile.path();
+        this.maxSize = logFile.maxSize().toBytes();
+        this.maxHistory = logFile.maxHistory();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void deliver(List<OutboxEnvelope> messages) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        for (OutboxEnvelope message : messages) {
+            lines.write(objectMapper.writeValueAsBytes(message));
+            lines.write('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+        writeLock.lock();
+        try {
+            Files.createDirectories(path.getParent());
+            rollIfFull();
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void rollIfFull() throws IOException {
+        if (!Files.exists(path) || Files.size(path) < maxSize) {
+            return;
+        }
+        Files.deleteIfExists(rolled(maxHistory));
+        for (int index = maxHistory - 1; index >= 1; index--) {
+            if (Files.exists(rolled(index))) {
+                Files.move(rolled(index), rolled(index + 1), StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+        if (maxHistory > 0) {
+            Files.move(path, rolled(1), StandardCopyOption.ATOMIC_MOVE);
+        } else {
+            Files.delete(path);
+        }
+    }
+
+    private Path rolled(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+}
@@ -0,0 +1,8 @@
+package com.austinscotchlovers.asl_service.outbox;
+
+import java.time.Instant;
+
+public record OutboxBacklog(long pending, Instant oldestCreatedAt) {
+
+    static final OutboxBacklog EMPTY = new OutboxBacklog(0, null);
+}
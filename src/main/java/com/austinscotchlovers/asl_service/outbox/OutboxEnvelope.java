@@ -0,0 +1,14 @@
+package com.austinscotchlovers.asl_service.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+
+public record OutboxEnvelope(
+        Long id,
+        String aggregateType,
+        Long aggregateId,
+        String type,
+        @JsonRawValue String payload,
+        Instant createdAt
+) {}
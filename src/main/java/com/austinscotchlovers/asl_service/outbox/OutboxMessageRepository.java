@@ -0,0 +1,80 @@
+package com.austinscotchlovers.asl_service.outbox;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    @Query("""
+            SELECT m.id FROM OutboxMessage m
+            WHERE MOD(m.aggregateId, :partitions) = :partition
+              AND m.deadLetteredAt IS NULL
+              AND (m.lockedUntil IS NULL OR m.lockedUntil < :now)
+            ORDER BY m.id
+            """)
+    List<Long> findClaimable(@Param("partitions") int partitions,
+                             @Param("partition") int partition,
+                             @Param("now") Instant now,
+                             Limit limit);
+
+    @Modifying
+    @Query("""
+            UPDATE OutboxMessage m
+            SET m.lockedBy = :token, m.lockedUntil = :until
+            WHERE m.id IN :ids
+              AND m.deadLetteredAt IS NULL
+              AND (m.lockedUntil IS NULL OR m.lockedUntil < :now)
+            """)
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("token") String token,
+              @Param("now") Instant now,
+              @Param("until") Instant until);
+
+    @Query("""
+            SELECT new com.austinscotchlovers.asl_service.outbox.OutboxEnvelope(
+                m.id, m.aggregateType, m.aggregateId, m.type, m.payload, m.createdAt)
+            FROM OutboxMessage m
+            WHERE m.lockedBy = :token
+            ORDER BY m.id
+            """)
+    List<OutboxEnvelope> findClaimed(@Param("token") String token);
+
+    @Modifying
+    @Query("DELETE FROM OutboxMessage m WHERE m.lockedBy = :token")
+    int deleteClaimed(@Param("token") String token);
+
+    @Modifying
+    @Query("DELETE FROM OutboxMessage m WHERE m.id IN :ids")
+    int deleteDelivered(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.lockedBy = NULL, m.lockedUntil = NULL WHERE m.lockedBy = :token")
+    int release(@Param("token") String token);
+
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.attempts = m.attempts + 1 WHERE m.id = :id")
+    int recordFailure(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.deadLetteredAt = :now WHERE m.id = :id AND m.attempts >= :maxAttempts")
+    int deadLetterIfExhausted(@Param("id") Long id, @Param("maxAttempts") int maxAttempts, @Param("now") Instant now);
+
+    @Query("SELECT COUNT(m) FROM OutboxMessage m WHERE m.deadLetteredAt IS NOT NULL")
+    long countDeadLettered();
+
+    @Query("""
+            SELECT new com.austinscotchlovers.asl_service.outbox.OutboxBacklog(COUNT(m), MIN(m.createdAt))
+            FROM OutboxMessage m
+            WHERE m.deadLetteredAt IS NULL
+            """)
+    OutboxBacklog findBacklog();
+}
@@ -0,0 +1,41 @@
+package com.austinscotchlovers.asl_service.outbox;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "outbox_partition_leases")
+public class OutboxPartitionLease {
+
+    @Id
+    @Column(name = "partition_id")
+    private Integer partitionId;
+
+    @Column(name = "owned_by", length = 36)
+    private String ownedBy;
+
+    @Column(name = "leased_until")
+    private Instant leasedUntil;
+
+    public OutboxPartitionLease() {
+    }
+
+    public OutboxPartitionLease(Integer partitionId, String ownedBy, Instant leasedUntil) {
+        this.partitionId = partitionId;
+        this.ownedBy = ownedBy;
+        this.leasedUntil = leasedUntil;
+    }
+
+    public Integer getPartitionId() {
+        return partitionId;
+    }
+
+    public String getOwnedBy() {
+        return ownedBy;
+    }
+
+    public Instant getLeasedUntil() {
+        return leasedUntil;
+    }
+}
@@ -0,0 +1,29 @@
+package com.austinscotchlovers.asl_service.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface OutboxPartitionLeaseRepository extends JpaRepository<OutboxPartitionLease, Integer> {
+
+    @Modifying
+    @Query("""
+            UPDATE OutboxPartitionLease l
+            SET l.ownedBy = :owner, l.leasedUntil = :until
+            WHERE l.partitionId = :partition
+              AND (l.ownedBy = :owner OR l.leasedUntil IS NULL OR l.leasedUntil < :now)
+            """)
+    int renew(@Param("partition") int partition,
+              @Param("owner") String owner,
+              @Param("now") Instant now,
+              @Param("until") Instant until);
+
+    @Modifying
+    @Query("UPDATE OutboxPartitionLease l SET l.ownedBy = NULL, l.leasedUntil = NULL WHERE l.ownedBy = :owner")
+    int release(@Param("owner") String owner);
+}
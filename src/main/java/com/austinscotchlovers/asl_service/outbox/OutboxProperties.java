@@ -0,0 +1,15 @@
+package com.austinscotchlovers.asl_service.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties("app.outbox")
+public record OutboxProperties(Relay relay, LogFile logFile) {
+
+    public record Relay(int batchSize, int parallelism, int maxBatchesPerPoll, Duration lease, int maxAttempts) {}
+
+    public record LogFile(Path path, DataSize maxSize, int maxHistory) {}
+}
@@ -0,0 +1,249 @@
+package com.austinscotchlovers.asl_service.outbox;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@ConditionalOnProperty(name = {"app.outbox.enabled", "app.outbox.relay.enabled"}, havingValue = "true")
+public class OutboxRelay implements MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxMessageRepository repository;
+    private final OutboxPartitionLeaseRepository leaseRepository;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties.Relay relay;
+    private final Clock clock;
+    private final ExecutorService executor;
+    private final String owner = UUID.randomUUID().toString();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile OutboxBacklog backlog = OutboxBacklog.EMPTY;
+    private volatile long deadLettered;
+
+    @Autowired
+    public OutboxRelay(OutboxMessageRepository repository, OutboxPartitionLeaseRepository leaseRepository,
+                       List<OutboxSink> sinks, PlatformTransactionManager transactionManager,
+                       OutboxProperties properties,
+                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this(repository, leaseRepository, sinks, transactionManager, properties.relay(), virtualThreads,
+                Clock.systemUTC());
+    }
+
+    OutboxRelay(OutboxMessageRepository repository, OutboxPartitionLeaseRepository leaseRepository,
+                List<OutboxSink> sinks, PlatformTransactionManager transactionManager,
+                OutboxProperties.Relay relay, boolean virtualThreads, Clock clock) {
+        if (sinks.isEmpty()) {
+            throw new IllegalStateException("The outbox relay is enabled but no sink is configured; enable "
+                    + "'app.outbox.log-file.enabled' or 'app.outbox.in-process.enabled', or disable 'app.outbox.relay.enabled'.");
+        }
+        this.repository = repository;
+        this.leaseRepository = leaseRepository;
+        this.sinks = List.copyOf(sinks);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.relay = relay;
+        this.clock = clock;
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("outbox-relay-", 0).factory()
+                : Thread.ofPlatform().name("outbox-relay-", 0).daemon().factory();
+        this.executor = Executors.newFixedThreadPool(relay.parallelism(), threadFactory);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval}")
+    public void poll() {
+        drain();
+    }
+
+    int drain() {
+        int relayed = relay.parallelism() == 1 ? drainPartition(0, 1) : drainPartitions();
+        transactionTemplate.executeWithoutResult(status -> {
+            backlog = repository.findBacklog();
+            deadLettered = repository.countDeadLettered();
+        });
+        return relayed;
+    }
+
+    private int drainPartitions() {
+        int partitions = relay.parallelism();
+        List<Future<Integer>> results = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions; partition++) {
+            int current = partition;
+            results.add(executor.submit(() -> drainPartition(current, partitions)));
+        }
+        int relayed = 0;
+        for (int partition = 0; partition < partitions; partition++) {
+            try {
+                relayed += results.get(partition).get();
+            } catch (ExecutionException e) {
+                log.warn("Outbox relay partition {} of {} failed; retrying on the next poll",
+                        partition, partitions, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return relayed;
+    }
+
+    private int drainPartition(int partition, int partitions) {
+        int relayed = 0;
+        for (int batch = 0; batch < relay.maxBatchesPerPoll() && ownPartition(partition); batch++) {
+            String token = UUID.randomUUID().toString();
+            List<OutboxEnvelope> messages = transactionTemplate.execute(status -> claim(token, partition, partitions));
+            if (messages.isEmpty()) {
+                break;
+            }
+            int count = deliver(token, messages);
+            relayed += count;
+            if (count < messages.size() || messages.size() < relay.batchSize()) {
+                break;
+            }
+        }
+        return relayed;
+    }
+
+    private boolean ownPartition(int partition) {
+        Instant now = clock.instant();
+        Instant until = now.plus(relay.lease());
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (leaseRepository.renew(partition, owner, now, until) > 0) {
+                    return true;
+                }
+                if (leaseRepository.existsById(partition)) {
+                    return false;
+                }
+                leaseRepository.saveAndFlush(new OutboxPartitionLease(partition, owner, until));
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private List<OutboxEnvelope> claim(String token, int partition, int partitions) {
+        Instant now = clock.instant();
+        List<Long> ids = repository.findClaimable(partitions, partition, now, Limit.of(relay.batchSize()));
+        if (ids.isEmpty() || repository.claim(ids, token, now, now.plus(relay.lease())) == 0) {
+            return List.of();
+        }
+        return repository.findClaimed(token);
+    }
+
+    private int deliver(String token, List<OutboxEnvelope> messages) {
+        try {
+            deliverToSinks(messages);
+        } catch (Exception e) {
+            log.warn("Outbox delivery of {} messages failed; retrying them one at a time", messages.size(), e);
+            return deliverEach(token, messages);
+        }
+        transactionTemplate.executeWithoutResult(status -> repository.deleteClaimed(token));
+        delivered.add(messages.size());
+        return messages.size();
+    }
+
+    private int deliverEach(String token, List<OutboxEnvelope> messages) {
+        List<Long> deliveredIds = new ArrayList<>();
+        OutboxEnvelope failure = null;
+        for (OutboxEnvelope message : messages) {
+            try {
+                deliverToSinks(List.of(message));
+                deliveredIds.add(message.id());
+            } catch (Exception e) {
+                log.warn("Outbox message {} failed; releasing it and the {} behind it for retry",
+                        message.id(), messages.size() - deliveredIds.size() - 1, e);
+                failure = message;
+                break;
+            }
+        }
+        OutboxEnvelope failedMessage = failure;
+        boolean exhausted = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (!deliveredIds.isEmpty()) {
+                repository.deleteDelivered(deliveredIds);
+            }
+            boolean deadLetter = failedMessage != null && recordFailure(failedMessage.id());
+            repository.release(token);
+            return deadLetter;
+        }));
+        delivered.add(deliveredIds.size());
+        if (failedMessage != null) {
+            failed.increment();
+        }
+        if (exhausted) {
+            log.error("Outbox message {} ({} {} {}) failed {} times and was dead-lettered", failedMessage.id(),
+                    failedMessage.aggregateType(), failedMessage.aggregateId(), failedMessage.type(), relay.maxAttempts());
+        }
+        return deliveredIds.size();
+    }
+
+    private boolean recordFailure(Long id) {
+        repository.recordFailure(id);
+        return repository.deadLetterIfExhausted(id, relay.maxAttempts(), clock.instant()) > 0;
+    }
+
+    private void deliverToSinks(List<OutboxEnvelope> messages) throws IOException {
+        for (OutboxSink sink : sinks) {
+            sink.deliver(messages);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+        transactionTemplate.executeWithoutResult(status -> leaseRepository.release(owner));
+    }
+
+    Duration lag() {
+        Instant oldest = backlog.oldestCreatedAt();
+        return oldest == null ? Duration.ZERO : Duration.between(oldest, clock.instant());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("outbox.messages.delivered", delivered, LongAdder::sum)
+                .description("Outbox messages handed to every sink and removed from the outbox")
+                .register(registry);
+        FunctionCounter.builder("outbox.messages.failed", failed, LongAdder::sum)
+                .description("Outbox messages released for retry after a sink failed")
+                .register(registry);
+        Gauge.builder("outbox.messages.dead-lettered", this, outboxRelay -> outboxRelay.deadLettered)
+                .description("Outbox messages that exhausted their delivery attempts and need manual attention")
+                .register(registry);
+        Gauge.builder("outbox.messages.pending", this, outboxRelay -> outboxRelay.backlog.pending())
+                .description("Outbox messages not yet delivered as of the last relay poll")
+                .register(registry);
+        TimeGauge.builder("outbox.lag", this, TimeUnit.MILLISECONDS, outboxRelay -> outboxRelay.lag().toMillis())
+                .description("Age of the oldest undelivered outbox message")
+                .register(registry);
+    }
+}
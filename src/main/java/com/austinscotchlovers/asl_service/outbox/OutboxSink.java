@@ -0,0 +1,9 @@
+package com.austinscotchlovers.asl_service.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+public interface OutboxSink {
+
+    void deliver(List<OutboxEnvelope> messages) throws IOException;
+}
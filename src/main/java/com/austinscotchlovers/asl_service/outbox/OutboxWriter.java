@@ -0,0 +1,62 @@
+package com.austinscotchlovers.asl_service.outbox;
+
+import com.austinscotchlovers.asl_service.events.EventChange;
+import com.austinscotchlovers.asl_service.users.UserChange;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+@Component
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "true")
+public class OutboxWriter {
+
+    static final String EVENT = "event";
+    static final String USER = "user";
+    static final String SAVED = "saved";
+    static final String DELETED = "deleted";
+    static final String ARCHIVED = "archived";
+
+    private final OutboxMessageRepository repository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(OutboxMessageRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onEventChange(EventChange change) {
+        append(EVENT, change.id(), typeOf(change), change.event());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onUserChange(UserChange change) {
+        append(USER, change.id(), change.isDeletion() ? DELETED : SAVED, change.user());
+    }
+
+    private static String typeOf(EventChange change) {
+        return switch (change.type()) {
+            case SAVED -> SAVED;
+            case DELETED -> DELETED;
+            case ARCHIVED -> ARCHIVED;
+        };
+    }
+
+    private void append(String aggregateType, Long aggregateId, String type, Object payload) {
+        try {
+            String json = payload == null ? null : objectMapper.writeValueAsString(payload);
+            repository.save(new OutboxMessage(aggregateType, aggregateId, type, json, Instant.now()));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
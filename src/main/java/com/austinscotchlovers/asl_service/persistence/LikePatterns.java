@@ -0,0 +1,20 @@
+package com.austinscotchlovers.asl_service.persistence;
+
+public final class LikePatterns {
+
+    public static final char ESCAPE = '!';
+
+    private LikePatterns() {
+    }
+
+    public static String escape(String value) {
+        if (value == null) {
+            return null;
+        }
+        String escape = String.valueOf(ESCAPE);
+        return value
+                .replace(escape, escape + escape)
+                .replace("%", escape + "%")
+                .replace("_", escape + "_");
+    }
+}
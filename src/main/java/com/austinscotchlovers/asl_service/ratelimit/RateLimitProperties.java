@@ -0,0 +1,31 @@
+package com.austinscotchlovers.asl_service.ratelimit;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+@Validated
+@ConfigurationProperties("app.rate-limit")
+public record RateLimitProperties(boolean enabled, @Positive long maxClients, @NotNull Duration idleTimeout,
+                                  @Valid List<Group> groups) {
+
+    public RateLimitProperties {
+        groups = groups == null ? List.of() : List.copyOf(groups);
+    }
+
+    public record Group(@NotBlank String name, Set<String> methods, List<String> patterns, @Positive long capacity,
+                        @Positive long permits, @NotNull Duration period) {
+
+        public Group {
+            methods = methods == null ? Set.of() : Set.copyOf(methods);
+            patterns = patterns == null ? List.of() : List.copyOf(patterns);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.austinscotchlovers.asl_service.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+@Component
+public class RateLimiter implements MeterBinder {
+
+    public static final long ALLOWED = 0;
+
+    private record Route(String name, Set<String> methods, List<PathPattern> patterns, long intervalNanos,
+                         long burstNanos, LongAdder throttled) {
+
+        boolean matches(String method, PathContainer path) {
+            if (!methods.isEmpty() && !methods.contains(method)) {
+                return false;
+            }
+            for (PathPattern pattern : patterns) {
+                if (pattern.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record BucketKey(String route, String client) {}
+
+    private final boolean enabled;
+    private final List<Route> routes;
+    private final Cache<BucketKey, AtomicLong> buckets;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitProperties properties, LongSupplier nanoClock) {
+        this.enabled = properties.enabled();
+        this.routes = properties.groups().stream().map(RateLimiter::toRoute).toList();
+        long longestBurst = routes.stream().mapToLong(Route::burstNanos).max().orElse(0);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxClients())
+                .expireAfterAccess(Duration.ofNanos(Math.max(properties.idleTimeout().toNanos(), longestBurst)))
+                .build();
+        this.nanoClock = nanoClock;
+    }
+
+    public long tryAcquire(String method, String path, String client) {
+        if (!enabled) {
+            return ALLOWED;
+        }
+        Route route = match(method, PathContainer.parsePath(path));
+        if (route == null) {
+            return ALLOWED;
+        }
+        AtomicLong bucket = buckets.get(new BucketKey(route.name(), client), key -> new AtomicLong(Long.MIN_VALUE));
+        long waitNanos = acquire(bucket, nanoClock.getAsLong(), route.intervalNanos(), route.burstNanos());
+        if (waitNanos != ALLOWED) {
+            route.throttled().increment();
+        }
+        return waitNanos;
+    }
+
+    static long acquire(AtomicLong theoreticalArrival, long now, long intervalNanos, long burstNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long allowedAt = next - burstNanos;
+            if (allowedAt > now) {
+                return allowedAt - now;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return ALLOWED;
+            }
+        }
+    }
+
+    long trackedClients() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Route route : routes) {
+            FunctionCounter.builder("http.server.requests.throttled", route.throttled(), LongAdder::sum)
+                    .description("Requests rejected with 429 by the per-client rate limiter")
+                    .tag("group", route.name())
+                    .register(registry);
+        }
+        registry.gauge("http.server.rate.limit.clients", this, RateLimiter::trackedClients);
+    }
+
+    private Route match(String method, PathContainer path) {
+        for (Route route : routes) {
+            if (route.matches(method, path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static Route toRoute(RateLimitProperties.Group group) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        if (group.permits() < 1 || group.capacity() < 1) {
+            throw new IllegalArgumentException("Rate limit group '" + group.name() + "' needs positive permits and capacity");
+        }
+        long intervalNanos = group.period().toNanos() / group.permits();
+        if (intervalNanos < 1) {
+            throw new IllegalArgumentException("Rate limit group '" + group.name() + "' allows more than "
+                    + group.permits() + " permits per " + group.period() + "; lengthen the period");
+        }
+        long burstNanos;
+        try {
+            burstNanos = Math.multiplyExact(intervalNanos, group.capacity());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Rate limit group '" + group.name() + "' has a burst window that is too long", e);
+        }
+        return new Route(group.name(),
+                group.methods().stream().map(method -> method.toUpperCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet()),
+                group.patterns().stream().map(parser::parse).toList(),
+                intervalNanos,
+                burstNanos,
+                new LongAdder());
+    }
+}
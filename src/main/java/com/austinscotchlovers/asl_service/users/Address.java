@@ -1,8 +1,12 @@
 package com.austinscotchlovers.asl_service.users;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "addresses")
 @Table(name = "addresses")
 public class Address {
 
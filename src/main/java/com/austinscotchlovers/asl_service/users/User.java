@@ -3,11 +3,15 @@ package com.austinscotchlovers.asl_service.users;
 import com.austinscotchlovers.asl_service.events.Event;
 import com.austinscotchlovers.asl_service.users.security.Role;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_role", columnList = "role, username, id"))
 public class User {
 
     @Id
@@ -48,10 +52,17 @@ public class User {
     @JoinTable(
             name = "user_attended_events",
             joinColumns = @JoinColumn(name = "user_id"),
-            inverseJoinColumns = @JoinColumn(name = "event_id")
+            inverseJoinColumns = @JoinColumn(name = "event_id"),
+            uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "event_id"}),
+            indexes = @Index(name = "idx_user_attended_events_event_id", columnList = "event_id, user_id")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-attended-events")
     private List<Event> attendedEvents;
 
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     private User(UserBuilder builder) {
         this.email = builder.email;
         this.username = builder.username;
@@ -160,6 +171,14 @@ public class User {
         this.attendedEvents = attendedEvents;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public static class UserBuilder {
         private String email;
         private String username;
@@ -0,0 +1,122 @@
+package com.austinscotchlovers.asl_service.users;
+
+import com.austinscotchlovers.asl_service.users.dto.UserSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+@Component
+public class UserAvailabilityIndex implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<String> emails = ConcurrentHashMap.newKeySet();
+    private final Set<String> usernames = ConcurrentHashMap.newKeySet();
+    private volatile boolean warm;
+
+    public UserAvailabilityIndex(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<UserSummary> users = userRepository.streamAllSummaries()) {
+                users.forEach(user -> add(user.email(), user.username()));
+            }
+        });
+        warm = true;
+    }
+
+    public boolean isEmailTaken(String email) {
+        return isTaken(email, emails, userRepository::existsByEmailIgnoreCase);
+    }
+
+    public boolean isUsernameTaken(String username) {
+        return isTaken(username, usernames, userRepository::existsByUsernameIgnoreCase);
+    }
+
+    public void add(String email, String username) {
+        addNormalized(emails, email);
+        addNormalized(usernames, username);
+    }
+
+    public void remove(String email, String username) {
+        removeNormalized(emails, email);
+        removeNormalized(usernames, username);
+    }
+
+    public void replace(String oldEmail, String oldUsername, String newEmail, String newUsername) {
+        if (!normalizedEquals(oldEmail, newEmail)) {
+            removeNormalized(emails, oldEmail);
+            addNormalized(emails, newEmail);
+        }
+        if (!normalizedEquals(oldUsername, newUsername)) {
+            removeNormalized(usernames, oldUsername);
+            addNormalized(usernames, newUsername);
+        }
+    }
+
+    static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    static boolean normalizedEquals(String a, String b) {
+        String normalized = normalize(a);
+        return normalized == null ? normalize(b) == null : normalized.equals(normalize(b));
+    }
+
+    private boolean isTaken(String value, Set<String> index, Predicate<String> stored) {
+        String key = normalize(value);
+        if (key == null) {
+            return false;
+        }
+        if (warm && !index.contains(key)) {
+            return false;
+        }
+        boolean taken = stored.test(key);
+        if (taken) {
+            index.add(key);
+        } else {
+            index.remove(key);
+        }
+        return taken;
+    }
+
+    private static void addNormalized(Set<String> index, String value) {
+        String key = normalize(value);
+        if (key != null) {
+            index.add(key);
+        }
+    }
+
+    private static void removeNormalized(Set<String> index, String value) {
+        String key = normalize(value);
+        if (key != null) {
+            index.remove(key);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("users.availability.index.size", emails, Set::size)
+                .tag("key", "email")
+                .register(registry);
+        Gauge.builder("users.availability.index.size", usernames, Set::size)
+                .tag("key", "username")
+                .register(registry);
+    }
+}
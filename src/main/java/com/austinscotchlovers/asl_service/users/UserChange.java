@@ -0,0 +1,31 @@
+package com.austinscotchlovers.asl_service.users;
+
+import com.austinscotchlovers.asl_service.users.dto.UserSummary;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+public record UserChange(Long id, UserSummary user, List<String> emails) {
+
+    public static UserChange saved(User user) {
+        return updated(user, null);
+    }
+
+    public static UserChange updated(User user, String previousEmail) {
+        return new UserChange(user.getId(), new UserSummary(user.getId(), user.getEmail(), user.getUsername(),
+                user.getFirstName(), user.getLastName(), user.getRole()), emails(user.getEmail(), previousEmail));
+    }
+
+    public static UserChange deleted(Long id, String email) {
+        return new UserChange(id, null, emails(email, null));
+    }
+
+    public boolean isDeletion() {
+        return user == null;
+    }
+
+    private static List<String> emails(String email, String previousEmail) {
+        return Stream.of(email, previousEmail).filter(Objects::nonNull).distinct().toList();
+    }
+}
@@ -1,13 +1,26 @@
 package com.austinscotchlovers.asl_service.users;
 
+import com.austinscotchlovers.asl_service.export.ExportFormat;
+import com.austinscotchlovers.asl_service.users.dto.BulkUserDeleteResponse;
+import com.austinscotchlovers.asl_service.users.dto.UserAvailability;
+import com.austinscotchlovers.asl_service.users.dto.UserPage;
+import com.austinscotchlovers.asl_service.users.dto.UserProfile;
 import com.austinscotchlovers.asl_service.users.dto.UserUpdateDto;
 import com.austinscotchlovers.asl_service.users.security.CustomUserPrincipal;
+import com.austinscotchlovers.asl_service.users.security.Role;
+import com.austinscotchlovers.asl_service.web.ETags;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -16,45 +29,75 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final UserExportService userExportService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserExportService userExportService) {
         this.userService = userService;
+        this.userExportService = userExportService;
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public User createUser(@RequestBody User newUser) {
+    public UserProfile createUser(@RequestBody User newUser) {
         return userService.saveUser(newUser);
     }
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public List<User> getAllUsers() {
-        return userService.getAllUsers();
+    public UserPage getUsers(@RequestParam(required = false) Role role,
+                             @RequestParam(required = false) String username,
+                             @PageableDefault(size = 20, sort = "username") Pageable pageable) {
+        return userService.getUsers(role, username, pageable);
+    }
+
+    @GetMapping("/availability")
+    public UserAvailability checkAvailability(@RequestParam(required = false) String username) {
+        return userService.checkAvailability(username);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(exportFormat.fileName("users")).build().toString())
+                .body(out -> userExportService.exportUsers(exportFormat, out));
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or #id == authentication.principal.user.id")
-    public ResponseEntity<User> getUserById(@PathVariable Long id, @AuthenticationPrincipal CustomUserPrincipal principal) {
+    @PreAuthorize("hasRole('ADMIN') or #id == authentication.principal.id")
+    public ResponseEntity<UserProfile> getUserById(@PathVariable Long id, @AuthenticationPrincipal CustomUserPrincipal principal) {
         return userService.getUserById(id)
-                .map(ResponseEntity::ok)
+                .map(user -> ResponseEntity.ok()
+                        .eTag(ETags.of(user.version()))
+                        .cacheControl(CacheControl.noCache().cachePrivate())
+                        .body(user))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or #id == authentication.principal.user.id")
-    public ResponseEntity<User> updateUser(@PathVariable Long id, @Valid @RequestBody UserUpdateDto updatedDto, @AuthenticationPrincipal CustomUserPrincipal principal) {
-        try {
-            User user = userService.updateUser(id, updatedDto);
-            return ResponseEntity.ok(user);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+    @PreAuthorize("hasRole('ADMIN') or #id == authentication.principal.id")
+    public ResponseEntity<UserProfile> updateUser(@PathVariable Long id,
+                                                  @Valid @RequestBody UserUpdateDto updatedDto,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                  @AuthenticationPrincipal CustomUserPrincipal principal) {
+        UserProfile user = userService.updateUser(id, updatedDto, ETags.ifMatchVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(user.version()))
+                .body(user);
+    }
+
+    @DeleteMapping(params = "ids")
+    @PreAuthorize("hasRole('ADMIN')")
+    public BulkUserDeleteResponse deleteUsers(@RequestParam List<Long> ids) {
+        return userService.deleteUsers(ids);
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    @PreAuthorize("hasRole('ADMIN') or #id == authentication.principal.user.id")
+    @PreAuthorize("hasRole('ADMIN') or #id == authentication.principal.id")
     public void deleteUser(@PathVariable Long id, @AuthenticationPrincipal CustomUserPrincipal principal) {
         userService.deleteUser(id);
     }
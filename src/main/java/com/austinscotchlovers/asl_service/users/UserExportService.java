@@ -0,0 +1,30 @@
+package com.austinscotchlovers.asl_service.users;
+
+import com.austinscotchlovers.asl_service.export.ExportFormat;
+import com.austinscotchlovers.asl_service.users.dto.UserSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+@Service
+public class UserExportService {
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    public UserExportService(UserRepository userRepository, ObjectMapper objectMapper) {
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public long exportUsers(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<UserSummary> users = userRepository.streamAllSummaries()) {
+            return format.open(UserSummary.class, out, objectMapper).writeAll(users);
+        }
+    }
+}
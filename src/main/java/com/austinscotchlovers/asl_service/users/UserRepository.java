@@ -1,11 +1,97 @@
 package com.austinscotchlovers.asl_service.users;
 
+import com.austinscotchlovers.asl_service.users.dto.UserIdentity;
+import com.austinscotchlovers.asl_service.users.dto.UserSummary;
+import com.austinscotchlovers.asl_service.users.security.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    boolean existsByEmailIgnoreCase(String email);
+
+    boolean existsByUsernameIgnoreCase(String username);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @EntityGraph(attributePaths = "address")
+    Optional<User> findWithAddressById(Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("""
+            SELECT new com.austinscotchlovers.asl_service.users.dto.UserSummary(
+                u.id, u.email, u.username, u.firstName, u.lastName, u.role)
+            FROM User u
+            WHERE (:role IS NULL OR u.role = :role)
+              AND (:usernamePrefix IS NULL OR u.username LIKE CONCAT(:usernamePrefix, '%') ESCAPE '!')
+            """)
+    Slice<UserSummary> findSummaries(@Param("role") Role role,
+                                     @Param("usernamePrefix") String usernamePrefix,
+                                     Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.austinscotchlovers.asl_service.users.dto.UserSummary(
+                u.id, u.email, u.username, u.firstName, u.lastName, u.role)
+            FROM User u
+            ORDER BY u.id
+            """)
+    Stream<UserSummary> streamAllSummaries();
+
+    @Query("""
+            SELECT new com.austinscotchlovers.asl_service.users.dto.UserIdentity(u.id, u.email, u.username, a.id)
+            FROM User u LEFT JOIN u.address a
+            WHERE u.id IN :ids
+            """)
+    List<UserIdentity> findIdentities(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_seats"))
+    @Query(value = """
+            UPDATE event_seats SET attendee_count = attendee_count - (
+                SELECT COUNT(*) FROM user_attended_events a WHERE a.event_id = event_seats.event_id AND a.user_id IN (:userIds))
+            WHERE event_id IN (SELECT event_id FROM user_attended_events WHERE user_id IN (:userIds))
+            """, nativeQuery = true)
+    int releaseAttendedSeats(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_attended_events"))
+    @Query(value = "DELETE FROM user_attended_events WHERE user_id IN (:userIds)", nativeQuery = true)
+    int deleteAttendanceByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_attended_events_archive"))
+    @Query(value = "DELETE FROM user_attended_events_archive WHERE user_id IN (:userIds)", nativeQuery = true)
+    int deleteArchivedAttendanceByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_waitlist"))
+    @Query(value = "DELETE FROM event_waitlist WHERE user_id IN (:userIds)", nativeQuery = true)
+    int deleteWaitlistByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Address a WHERE a.id IN :ids")
+    int deleteAddressesByIds(@Param("ids") Collection<Long> ids);
 }
@@ -1,53 +1,173 @@
 package com.austinscotchlovers.asl_service.users;
 
 import com.austinscotchlovers.asl_service.exceptions.DuplicateUserException;
+import com.austinscotchlovers.asl_service.exceptions.InvalidQueryParameterException;
+import com.austinscotchlovers.asl_service.exceptions.PayloadTooLargeException;
+import com.austinscotchlovers.asl_service.exceptions.PreconditionFailedException;
+import com.austinscotchlovers.asl_service.exceptions.UserNotFoundException;
+import com.austinscotchlovers.asl_service.persistence.LikePatterns;
+import com.austinscotchlovers.asl_service.users.dto.BulkUserDeleteResponse;
+import com.austinscotchlovers.asl_service.users.dto.UserAvailability;
+import com.austinscotchlovers.asl_service.users.dto.UserIdentity;
+import com.austinscotchlovers.asl_service.users.dto.UserPage;
+import com.austinscotchlovers.asl_service.users.dto.UserProfile;
+import com.austinscotchlovers.asl_service.users.dto.UserSummary;
 import com.austinscotchlovers.asl_service.users.dto.UserUpdateDto;
 import com.austinscotchlovers.asl_service.users.mapper.UserMapper;
+import com.austinscotchlovers.asl_service.users.security.Role;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 @Service
+@Timed(value = "asl.users.service", histogram = true)
 public class UserService {
 
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_BULK_SIZE = 1000;
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "email", "username", "role");
+
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final UserAvailabilityIndex availabilityIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserService(UserRepository userRepository, UserMapper userMapper) {
+    public UserService(UserRepository userRepository, UserMapper userMapper,
+                       UserAvailabilityIndex availabilityIndex, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
+        this.availabilityIndex = availabilityIndex;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(readOnly = true)
+    public UserPage getUsers(Role role, String usernamePrefix, Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new InvalidQueryParameterException("Users cannot be sorted by '" + order.getProperty() + "'.");
+            }
+        }
+        Sort sort = pageable.getSort().getOrderFor("id") == null
+                ? pageable.getSort().and(Sort.by("id"))
+                : pageable.getSort();
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_PAGE_SIZE), sort);
+
+        Slice<UserSummary> slice = userRepository.findSummaries(role, toLikePrefix(usernamePrefix), page);
+        return new UserPage(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
     }
 
-    public List<User> getAllUsers() {
-        return this.userRepository.findAll();
+    @Transactional(readOnly = true)
+    public Optional<UserProfile> getUserById(Long id) {
+        return userRepository.findWithAddressById(id).map(userMapper::toProfile);
     }
 
-    public Optional<User> getUserById(Long id) {
-        return userRepository.findById(id);
+    public UserAvailability checkAvailability(String username) {
+        if (UserAvailabilityIndex.normalize(username) == null) {
+            throw new InvalidQueryParameterException("'username' must be provided.");
+        }
+        return new UserAvailability(!availabilityIndex.isUsernameTaken(username));
     }
 
-    public User saveUser(User user) {
+    @Transactional
+    public UserProfile saveUser(User user) {
+        if (availabilityIndex.isEmailTaken(user.getEmail()) || availabilityIndex.isUsernameTaken(user.getUsername())) {
+            throw new DuplicateUserException("Email or username already exists");
+        }
         try {
-            return userRepository.save(user);
+            User saved = userRepository.save(user);
+            availabilityIndex.add(saved.getEmail(), saved.getUsername());
+            eventPublisher.publishEvent(UserChange.saved(saved));
+            return userMapper.toProfile(saved);
         } catch (DataIntegrityViolationException ex) {
             throw new DuplicateUserException("Email or username already exists");
         }
     }
 
-    public User updateUser(Long id, UserUpdateDto updatedDto) {
-        return userRepository.findById(id).map(user -> {
-            userMapper.updateUserFromDto(updatedDto, user);
-            try {
-                return userRepository.save(user);
-            } catch (DataIntegrityViolationException e) {
-                throw new DuplicateUserException("Email or username already exists");
-            }
-        }).orElseThrow(() -> new RuntimeException("User not found with id " + id));
+    @Transactional
+    public UserProfile updateUser(Long id, UserUpdateDto updatedDto, Long expectedVersion) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException("User not found with id " + id));
+        if (expectedVersion != null && !expectedVersion.equals(user.getVersion())) {
+            throw new PreconditionFailedException("User " + id + " has been modified since version " + expectedVersion);
+        }
+        String oldEmail = user.getEmail();
+        String oldUsername = user.getUsername();
+        if (isChangedAndTaken(oldEmail, updatedDto.email(), availabilityIndex::isEmailTaken)
+                || isChangedAndTaken(oldUsername, updatedDto.username(), availabilityIndex::isUsernameTaken)) {
+            throw new DuplicateUserException("Email or username already exists");
+        }
+        userMapper.updateUserFromDto(updatedDto, user);
+        try {
+            User saved = userRepository.saveAndFlush(user);
+            availabilityIndex.replace(oldEmail, oldUsername, saved.getEmail(), saved.getUsername());
+            eventPublisher.publishEvent(UserChange.updated(saved, oldEmail));
+            return userMapper.toProfile(saved);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateUserException("Email or username already exists");
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new PreconditionFailedException("User " + id + " was modified concurrently");
+        }
     }
 
+    @Transactional
     public void deleteUser(Long id) {
-        userRepository.deleteById(id);
+        delete(List.of(id));
+    }
+
+    @Transactional
+    public BulkUserDeleteResponse deleteUsers(Collection<Long> ids) {
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new PayloadTooLargeException("A bulk request may delete at most " + MAX_BULK_SIZE + " users.");
+        }
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        return new BulkUserDeleteResponse(distinctIds.size(), delete(distinctIds));
+    }
+
+    private int delete(List<Long> ids) {
+        List<UserIdentity> users = userRepository.findIdentities(ids);
+        if (users.isEmpty()) {
+            return 0;
+        }
+        List<Long> userIds = users.stream().map(UserIdentity::id).toList();
+        userRepository.releaseAttendedSeats(userIds);
+        userRepository.deleteAttendanceByUserIds(userIds);
+        userRepository.deleteArchivedAttendanceByUserIds(userIds);
+        userRepository.deleteWaitlistByUserIds(userIds);
+        int deleted = userRepository.deleteByIds(userIds);
+        List<Long> addressIds = users.stream().map(UserIdentity::addressId).filter(Objects::nonNull).toList();
+        if (!addressIds.isEmpty()) {
+            userRepository.deleteAddressesByIds(addressIds);
+        }
+        for (UserIdentity user : users) {
+            availabilityIndex.remove(user.email(), user.username());
+            eventPublisher.publishEvent(UserChange.deleted(user.id(), user.email()));
+        }
+        return deleted;
+    }
+
+    private static boolean isChangedAndTaken(String current, String requested, Predicate<String> taken) {
+        return requested != null && !UserAvailabilityIndex.normalizedEquals(current, requested) && taken.test(requested);
+    }
+
+    private static String toLikePrefix(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return null;
+        }
+        return LikePatterns.escape(prefix.strip());
     }
 }
\ No newline at end of file
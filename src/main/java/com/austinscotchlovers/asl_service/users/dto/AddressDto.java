@@ -0,0 +1,9 @@
+package com.austinscotchlovers.asl_service.users.dto;
+
+public record AddressDto(
+        String street1,
+        String street2,
+        String city,
+        String state,
+        String zipCode
+) {}
@@ -0,0 +1,3 @@
+package com.austinscotchlovers.asl_service.users.dto;
+
+public record BulkUserDeleteResponse(int requested, int deleted) {}
@@ -0,0 +1,5 @@
+package com.austinscotchlovers.asl_service.users.dto;
+
+public record UserAvailability(
+        boolean usernameAvailable
+) {}
@@ -0,0 +1,8 @@
+package com.austinscotchlovers.asl_service.users.dto;
+
+public record UserIdentity(
+        Long id,
+        String email,
+        String username,
+        Long addressId
+) {}
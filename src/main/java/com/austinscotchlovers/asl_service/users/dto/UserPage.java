@@ -0,0 +1,10 @@
+package com.austinscotchlovers.asl_service.users.dto;
+
+import java.util.List;
+
+public record UserPage(
+        List<UserSummary> items,
+        int page,
+        int size,
+        boolean hasNext
+) {}
@@ -0,0 +1,17 @@
+package com.austinscotchlovers.asl_service.users.dto;
+
+import com.austinscotchlovers.asl_service.users.security.Role;
+
+public record UserProfile(
+        Long id,
+        String email,
+        String username,
+        String firstName,
+        String lastName,
+        String name,
+        String profilePictureUrl,
+        String phoneNumber,
+        Role role,
+        AddressDto address,
+        Long version
+) {}
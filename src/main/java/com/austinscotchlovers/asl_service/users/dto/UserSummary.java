@@ -0,0 +1,12 @@
+package com.austinscotchlovers.asl_service.users.dto;
+
+import com.austinscotchlovers.asl_service.users.security.Role;
+
+public record UserSummary(
+        Long id,
+        String email,
+        String username,
+        String firstName,
+        String lastName,
+        Role role
+) {}
@@ -1,6 +1,9 @@
 package com.austinscotchlovers.asl_service.users.mapper;
 
+import com.austinscotchlovers.asl_service.users.Address;
 import com.austinscotchlovers.asl_service.users.User;
+import com.austinscotchlovers.asl_service.users.dto.AddressDto;
+import com.austinscotchlovers.asl_service.users.dto.UserProfile;
 import com.austinscotchlovers.asl_service.users.dto.UserUpdateDto;
 import org.mapstruct.*;
 
@@ -11,5 +14,10 @@ public interface UserMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "role", ignore = true)
     @Mapping(target = "attendedEvents", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateUserFromDto(UserUpdateDto dto, @MappingTarget User user);
+
+    UserProfile toProfile(User user);
+
+    AddressDto toAddressDto(Address address);
 }
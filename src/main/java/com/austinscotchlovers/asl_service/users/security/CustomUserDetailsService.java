@@ -1,6 +1,5 @@
 package com.austinscotchlovers.asl_service.users.security;
 
-import com.austinscotchlovers.asl_service.users.User;
 import com.austinscotchlovers.asl_service.users.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -11,16 +10,17 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, PrincipalCache principalCache) {
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
-
-        return new CustomUserPrincipal(user);
+        return principalCache.get(email, key -> userRepository.findByEmail(key)
+                .map(CustomUserPrincipal::new)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + key)));
     }
 }
@@ -8,11 +8,15 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.Collections;
 
-public record CustomUserPrincipal(User user) implements UserDetails {
+public record CustomUserPrincipal(Long id, String email, Role role) implements UserDetails {
+
+    public CustomUserPrincipal(User user) {
+        this(user.getId(), user.getEmail(), user.getRole());
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
     }
 
     @Override
@@ -22,10 +26,10 @@ public record CustomUserPrincipal(User user) implements UserDetails {
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     public Long getId() {
-        return user.getId();
+        return id;
     }
 }
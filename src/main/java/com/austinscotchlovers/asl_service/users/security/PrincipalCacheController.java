@@ -0,0 +1,23 @@
+package com.austinscotchlovers.asl_service.users.security;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/principal-cache")
+public class PrincipalCacheController {
+
+    private final PrincipalCache principalCache;
+
+    public PrincipalCacheController(PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public PrincipalCacheStats getStats() {
+        return principalCache.stats();
+    }
+}
@@ -0,0 +1,8 @@
+package com.austinscotchlovers.asl_service.users.security;
+
+public record PrincipalCacheStats(
+        long hits,
+        long misses,
+        long evictions,
+        long size
+) {}
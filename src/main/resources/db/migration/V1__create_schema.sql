@@ -0,0 +1,60 @@
+CREATE SEQUENCE events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE addresses (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    street1  VARCHAR(255) NOT NULL,
+    street2  VARCHAR(255),
+    city     VARCHAR(255) NOT NULL,
+    state    VARCHAR(255) NOT NULL,
+    zip_code VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE users (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email               VARCHAR(100) NOT NULL,
+    username            VARCHAR(50)  NOT NULL,
+    first_name          VARCHAR(50),
+    last_name           VARCHAR(50),
+    full_name           VARCHAR(100),
+    profile_picture_url VARCHAR(255),
+    phone_number        VARCHAR(20),
+    role                VARCHAR(20)  NOT NULL,
+    address_id          BIGINT,
+    version             BIGINT,
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_address_id UNIQUE (address_id),
+    CONSTRAINT fk_users_address FOREIGN KEY (address_id) REFERENCES addresses (id)
+);
+
+CREATE TABLE events (
+    id             BIGINT PRIMARY KEY,
+    name           VARCHAR(255) NOT NULL,
+    description    VARCHAR(255),
+    date           DATE,
+    time           TIME,
+    location       VARCHAR(255),
+    capacity       INTEGER,
+    attendee_count INTEGER NOT NULL DEFAULT 0,
+    version        BIGINT
+);
+
+CREATE INDEX idx_events_date_time ON events (date, time, id);
+
+CREATE TABLE user_attended_events (
+    user_id  BIGINT NOT NULL,
+    event_id BIGINT NOT NULL,
+    CONSTRAINT uk_user_attended_events UNIQUE (user_id, event_id),
+    CONSTRAINT fk_user_attended_events_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_attended_events_event FOREIGN KEY (event_id) REFERENCES events (id)
+);
+
+CREATE TABLE event_waitlist (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id   BIGINT    NOT NULL,
+    user_id    BIGINT    NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_event_waitlist_event_user UNIQUE (event_id, user_id)
+);
+
+CREATE INDEX idx_event_waitlist_event_id ON event_waitlist (event_id, id);
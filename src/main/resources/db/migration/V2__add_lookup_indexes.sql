@@ -0,0 +1,3 @@
+CREATE INDEX idx_user_attended_events_event_id ON user_attended_events (event_id, user_id);
+
+CREATE INDEX idx_users_role ON users (role, username, id);
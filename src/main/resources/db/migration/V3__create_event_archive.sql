@@ -0,0 +1,24 @@
+CREATE TABLE events_archive (
+    id             BIGINT PRIMARY KEY,
+    name           VARCHAR(255) NOT NULL,
+    description    VARCHAR(255),
+    date           DATE,
+    time           TIME,
+    location       VARCHAR(255),
+    capacity       INTEGER,
+    attendee_count INTEGER NOT NULL,
+    version        BIGINT,
+    archived_at    TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_events_archive_date_time ON events_archive (date, time, id);
+
+CREATE TABLE user_attended_events_archive (
+    user_id  BIGINT NOT NULL,
+    event_id BIGINT NOT NULL,
+    CONSTRAINT uk_user_attended_events_archive UNIQUE (event_id, user_id),
+    CONSTRAINT fk_user_attended_events_archive_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_attended_events_archive_event FOREIGN KEY (event_id) REFERENCES events_archive (id)
+);
+
+CREATE INDEX idx_user_attended_events_archive_user_id ON user_attended_events_archive (user_id);
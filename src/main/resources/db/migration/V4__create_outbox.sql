@@ -0,0 +1,15 @@
+CREATE SEQUENCE outbox_messages_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE outbox_messages (
+    id             BIGINT PRIMARY KEY,
+    aggregate_type VARCHAR(50)   NOT NULL,
+    aggregate_id   BIGINT        NOT NULL,
+    type           VARCHAR(50)   NOT NULL,
+    payload        VARCHAR(4000),
+    created_at     TIMESTAMP WITH TIME ZONE NOT NULL,
+    locked_by      VARCHAR(36),
+    locked_until   TIMESTAMP WITH TIME ZONE,
+    attempts       INTEGER       NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_outbox_messages_locked_by ON outbox_messages (locked_by);
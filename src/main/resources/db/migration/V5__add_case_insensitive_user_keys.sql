@@ -0,0 +1,5 @@
+ALTER TABLE users ADD COLUMN email_key VARCHAR(100) GENERATED ALWAYS AS (LOWER(email));
+ALTER TABLE users ADD COLUMN username_key VARCHAR(50) GENERATED ALWAYS AS (LOWER(username));
+
+ALTER TABLE users ADD CONSTRAINT uk_users_email_key UNIQUE (email_key);
+ALTER TABLE users ADD CONSTRAINT uk_users_username_key UNIQUE (username_key);
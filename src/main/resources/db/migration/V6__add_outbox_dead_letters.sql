@@ -0,0 +1 @@
+ALTER TABLE outbox_messages ADD COLUMN dead_lettered_at TIMESTAMP WITH TIME ZONE;
@@ -0,0 +1,5 @@
+CREATE TABLE outbox_partition_leases (
+    partition_id INTEGER PRIMARY KEY,
+    owned_by     VARCHAR(36),
+    leased_until TIMESTAMP WITH TIME ZONE
+);
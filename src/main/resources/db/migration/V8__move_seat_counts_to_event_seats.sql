@@ -0,0 +1,10 @@
+CREATE TABLE event_seats (
+    event_id       BIGINT PRIMARY KEY,
+    attendee_count INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT fk_event_seats_event FOREIGN KEY (event_id) REFERENCES events (id) ON DELETE CASCADE
+);
+
+INSERT INTO event_seats (event_id, attendee_count)
+SELECT id, attendee_count FROM events;
+
+ALTER TABLE events DROP COLUMN attendee_count;
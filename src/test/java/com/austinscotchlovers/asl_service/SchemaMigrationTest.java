@@ -0,0 +1,45 @@
+package com.austinscotchlovers.asl_service;
+
+import com.austinscotchlovers.asl_service.config.SecondLevelCacheConfig;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(SecondLevelCacheConfig.class)
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void should_apply_every_migration() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).hasSizeGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void should_create_lookup_indexes() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT LOWER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES", String.class);
+
+        assertThat(indexes).contains(
+                "idx_events_date_time",
+                "idx_user_attended_events_event_id",
+                "idx_users_role",
+                "idx_event_waitlist_event_id",
+                "idx_events_archive_date_time",
+                "idx_user_attended_events_archive_user_id",
+                "idx_outbox_messages_locked_by");
+    }
+}
@@ -0,0 +1,82 @@
+package com.austinscotchlovers.asl_service.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final DataSource primary = h2("routing_primary");
+    private final DataSource replica = h2("routing_replica");
+
+    @BeforeEach
+    void setUp() {
+        createNode(primary, "primary");
+        createNode(replica, "replica");
+    }
+
+    @Test
+    void should_send_read_only_transactions_to_the_replica() {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, Duration.ofSeconds(30));
+
+        assertThat(readNode(routing, true)).isEqualTo("replica");
+        assertThat(routing.isReplicaAvailable()).isTrue();
+    }
+
+    @Test
+    void should_send_read_write_transactions_to_the_primary() {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, Duration.ofSeconds(30));
+
+        assertThat(readNode(routing, false)).isEqualTo("primary");
+    }
+
+    @Test
+    void should_fall_back_to_the_primary_while_the_replica_is_unavailable() {
+        DataSource unavailable = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/unavailable", "sa", "password");
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, unavailable, Duration.ofSeconds(30));
+
+        assertThat(readNode(routing, true)).isEqualTo("primary");
+        assertThat(routing.isReplicaAvailable()).isFalse();
+        assertThat(readNode(routing, true)).isEqualTo("primary");
+    }
+
+    @Test
+    void should_retry_the_replica_once_the_back_off_has_elapsed() {
+        DriverManagerDataSource flaky = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/unavailable", "sa", "password");
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, flaky, Duration.ZERO);
+
+        assertThat(readNode(routing, true)).isEqualTo("primary");
+        flaky.setUrl("jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1");
+
+        assertThat(routing.isReplicaAvailable()).isTrue();
+        assertThat(readNode(routing, true)).isEqualTo("replica");
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "password");
+    }
+
+    private static void createNode(DataSource dataSource, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS node");
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+    }
+
+    private static String readNode(ReadWriteRoutingDataSource routing, boolean readOnly) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+}
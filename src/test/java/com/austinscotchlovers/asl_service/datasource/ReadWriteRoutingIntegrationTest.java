@@ -0,0 +1,90 @@
+package com.austinscotchlovers.asl_service.datasource;
+
+import com.austinscotchlovers.asl_service.events.EventService;
+import com.austinscotchlovers.asl_service.events.dto.EventDetail;
+import com.austinscotchlovers.asl_service.events.dto.EventDto;
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
+import com.austinscotchlovers.asl_service.exceptions.EventNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_it_primary;DB_CLOSE_DELAY=-1",
+        "app.datasource.routing.enabled=true",
+        "app.datasource.routing.migrate-replica=true",
+        "app.datasource.replica.jdbc-url=jdbc:h2:mem:routing_it_replica;DB_CLOSE_DELAY=-1",
+        "app.events.archive.enabled=false",
+        "app.outbox.relay.enabled=false",
+        "spring.security.oauth2.client.registration.google.client-id=routing-test",
+        "spring.security.oauth2.client.registration.google.client-secret=routing-test"
+})
+class ReadWriteRoutingIntegrationTest {
+
+    private static final long REPLICA_ONLY_ID = 900_001L;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @AfterEach
+    void cleanUp() {
+        new JdbcTemplate(primaryDataSource).update("DELETE FROM events");
+        new JdbcTemplate(replicaDataSource).update("DELETE FROM events");
+    }
+
+    @Test
+    void should_wrap_the_routing_data_source_in_a_lazy_connection_proxy() {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource())
+                .isInstanceOf(ReadWriteRoutingDataSource.class);
+    }
+
+    @Test
+    void should_serve_read_only_service_calls_from_the_migrated_replica() {
+        new JdbcTemplate(replicaDataSource).update("""
+                INSERT INTO events (id, name, date, time, location, version)
+                VALUES (?, 'Replica Tasting', DATE '2025-09-01', TIME '19:00:00', 'Downtown', 0)
+                """, REPLICA_ONLY_ID);
+
+        EventDetail event = eventService.getEventById(REPLICA_ONLY_ID);
+
+        assertThat(event.name()).isEqualTo("Replica Tasting");
+        assertThat(count(primaryDataSource, REPLICA_ONLY_ID)).isZero();
+    }
+
+    @Test
+    void should_send_writes_to_the_primary() {
+        EventSummary saved = eventService.saveEvent(
+                new EventDto("Primary Tasting", null, LocalDate.of(2025, 9, 2), LocalTime.of(19, 0), "Downtown"));
+
+        assertThat(count(primaryDataSource, saved.id())).isEqualTo(1);
+        assertThat(count(replicaDataSource, saved.id())).isZero();
+        assertThrows(EventNotFoundException.class, () -> eventService.getEventById(saved.id()));
+    }
+
+    private static int count(DataSource dataSource, Long id) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM events WHERE id = ?", Integer.class, id);
+    }
+}
@@ -0,0 +1,42 @@
+package com.austinscotchlovers.asl_service.diagnostics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FirstRequestTimerTest {
+
+    private final FirstRequestTimer timer = new FirstRequestTimer("/actuator");
+
+    @Test
+    void should_ignore_management_and_failed_requests() {
+        timer.onApplicationEvent(handled("/actuator/health", 200));
+        timer.onApplicationEvent(handled("/api/v1/events", 503));
+
+        assertThat(timer.getFirstRequestUptimeMillis()).isEqualTo(-1);
+    }
+
+    @Test
+    void should_keep_the_uptime_of_the_first_served_request() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        timer.bindTo(registry);
+
+        timer.onApplicationEvent(handled("/api/v1/events", 200));
+        long first = timer.getFirstRequestUptimeMillis();
+        timer.onApplicationEvent(handled("/api/v1/events", 200));
+
+        assertThat(first).isPositive();
+        assertThat(timer.getFirstRequestUptimeMillis()).isEqualTo(first);
+        assertThat(registry.get("application.first.request.time").timeGauge().value(TimeUnit.MILLISECONDS))
+                .isEqualTo(first);
+    }
+
+    private ServletRequestHandledEvent handled(String url, int status) {
+        return new ServletRequestHandledEvent(this, url, "127.0.0.1", "GET", "dispatcherServlet",
+                null, null, 5, null, status);
+    }
+}
@@ -0,0 +1,23 @@
+package com.austinscotchlovers.asl_service.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    void should_start_and_stop_recording_stream() {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(20), 8);
+
+        monitor.start();
+        monitor.start();
+        assertThat(monitor.isRunning()).isTrue();
+
+        monitor.stop();
+        assertThat(monitor.isRunning()).isFalse();
+        assertThat(monitor.getPinnedCount()).isZero();
+    }
+}
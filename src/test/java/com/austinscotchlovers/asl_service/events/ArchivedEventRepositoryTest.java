@@ -0,0 +1,76 @@
+package com.austinscotchlovers.asl_service.events;
+
+import com.austinscotchlovers.asl_service.config.SecondLevelCacheConfig;
+import com.austinscotchlovers.asl_service.events.dto.EventDetail;
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
+import com.austinscotchlovers.asl_service.users.User;
+import com.austinscotchlovers.asl_service.users.UserRepository;
+import com.austinscotchlovers.asl_service.users.security.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(SecondLevelCacheConfig.class)
+class ArchivedEventRepositoryTest {
+
+    @Autowired
+    private ArchivedEventRepository archivedEventRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void should_copy_past_events_and_attendance_into_the_archive() {
+        Event old = new Event("Old Tasting", "Speyside", LocalDate.of(2020, 3, 1), LocalTime.of(19, 0), "Here", new ArrayList<>());
+        old.setCapacity(20);
+        Long oldId = eventRepository.saveAndFlush(old).getId();
+        Long recentId = eventRepository.saveAndFlush(
+                new Event("Recent", null, LocalDate.of(2025, 3, 1), LocalTime.of(19, 0), "Here", new ArrayList<>())).getId();
+        eventRepository.openSeats(List.of(oldId, recentId));
+        Long userId = userRepository.saveAndFlush(User.builder().withEmail("e@example.com").withUsername("e").withRole(Role.MEMBER).build()).getId();
+        eventRepository.claimSeat(oldId);
+        eventRepository.insertAttendee(oldId, userId);
+
+        List<Long> ids = eventRepository.claimIdsDatedBefore(LocalDate.of(2024, 1, 1), 10);
+        assertThat(ids).containsExactly(oldId);
+
+        assertThat(archivedEventRepository.copyEvents(ids, Instant.parse("2025-01-01T00:00:00Z"))).isEqualTo(1);
+        assertThat(archivedEventRepository.copyAttendance(ids)).isEqualTo(1);
+        eventRepository.deleteAttendeesByEventIds(ids);
+        eventRepository.deleteByIds(ids);
+        entityManager.clear();
+
+        assertThat(eventRepository.findDetailById(oldId)).isEmpty();
+        assertThat(archivedEventRepository.findDetailById(oldId)).get()
+                .extracting(EventDetail::name, EventDetail::capacity, EventDetail::attendeeCount)
+                .containsExactly("Old Tasting", 20, 1);
+        assertThat(archivedEventRepository.findFirstPage(null, null, Limit.of(10)))
+                .extracting(EventSummary::id).containsExactly(oldId);
+        assertThat(archivedEventRepository.findDetailById(recentId)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_attended_events_archive WHERE event_id = ? AND user_id = ?",
+                Long.class, oldId, userId)).isEqualTo(1L);
+    }
+}
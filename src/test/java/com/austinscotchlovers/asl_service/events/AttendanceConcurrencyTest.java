@@ -0,0 +1,135 @@
+package com.austinscotchlovers.asl_service.events;
+
+import com.austinscotchlovers.asl_service.config.SecondLevelCacheConfig;
+import com.austinscotchlovers.asl_service.events.dto.RsvpResult;
+import com.austinscotchlovers.asl_service.events.dto.RsvpStatus;
+import com.austinscotchlovers.asl_service.users.User;
+import com.austinscotchlovers.asl_service.users.UserRepository;
+import com.austinscotchlovers.asl_service.users.security.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({SecondLevelCacheConfig.class, AttendanceService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AttendanceConcurrencyTest {
+
+    private static final int MEMBERS = 12;
+    private static final int SEATS = 5;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM user_attended_events");
+        jdbcTemplate.update("DELETE FROM event_waitlist");
+        jdbcTemplate.update("DELETE FROM events");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void should_never_hand_out_more_seats_than_capacity_when_members_race() throws Exception {
+        Long eventId = createEvent(SEATS);
+        List<Long> userIds = createMembers(MEMBERS);
+
+        List<RsvpResult> results = race(eventId, userIds);
+
+        assertThat(results).filteredOn(result -> result.status() == RsvpStatus.ATTENDING).hasSize(SEATS);
+        assertThat(results).filteredOn(result -> result.status() == RsvpStatus.WAITLISTED).hasSize(MEMBERS - SEATS);
+        assertThat(attendeeCount(eventId)).isEqualTo(SEATS);
+        assertThat(count("SELECT COUNT(*) FROM user_attended_events WHERE event_id = ?", eventId)).isEqualTo(SEATS);
+        assertThat(count("SELECT COUNT(*) FROM event_waitlist WHERE event_id = ?", eventId)).isEqualTo(MEMBERS - SEATS);
+    }
+
+    @Test
+    void should_promote_waitlisted_members_in_order_after_capacity_is_raised() throws Exception {
+        Long eventId = createEvent(SEATS);
+        race(eventId, createMembers(MEMBERS));
+        List<Long> firstWaiting = jdbcTemplate.queryForList(
+                "SELECT user_id FROM event_waitlist WHERE event_id = ? ORDER BY id LIMIT 2", Long.class, eventId);
+        jdbcTemplate.update("UPDATE events SET capacity = ? WHERE id = ?", SEATS + 2, eventId);
+
+        int promoted = attendanceService.promoteWaitlisted(eventId);
+
+        assertThat(promoted).isEqualTo(2);
+        assertThat(attendeeCount(eventId)).isEqualTo(SEATS + 2);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT user_id FROM user_attended_events WHERE event_id = ?", Long.class, eventId))
+                .containsAll(firstWaiting);
+        assertThat(count("SELECT COUNT(*) FROM event_waitlist WHERE event_id = ?", eventId)).isEqualTo(MEMBERS - SEATS - 2);
+    }
+
+    private List<RsvpResult> race(Long eventId, List<Long> userIds) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RsvpResult>> futures = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(userIds.size());
+        try {
+            for (Long userId : userIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return attendanceService.attend(eventId, userId);
+                }));
+            }
+            start.countDown();
+            List<RsvpResult> results = new ArrayList<>();
+            for (Future<RsvpResult> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Long createEvent(int capacity) {
+        Event event = new Event("Tasting", "Islay night", LocalDate.of(2025, 9, 1), LocalTime.of(19, 0), "Downtown", new ArrayList<>());
+        event.setCapacity(capacity);
+        Long eventId = eventRepository.save(event).getId();
+        jdbcTemplate.update("INSERT INTO event_seats (event_id) VALUES (?)", eventId);
+        return eventId;
+    }
+
+    private List<Long> createMembers(int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder().withEmail("member" + i + "@example.com").withUsername("member" + i).withRole(Role.MEMBER).build());
+        }
+        return userRepository.saveAll(users).stream().map(User::getId).toList();
+    }
+
+    private int attendeeCount(Long eventId) {
+        return count("SELECT attendee_count FROM event_seats WHERE event_id = ?", eventId);
+    }
+
+    private int count(String sql, Long eventId) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, eventId);
+    }
+}
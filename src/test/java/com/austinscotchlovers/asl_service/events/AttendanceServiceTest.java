@@ -0,0 +1,194 @@
+package com.austinscotchlovers.asl_service.events;
+
+import com.austinscotchlovers.asl_service.events.dto.RsvpResult;
+import com.austinscotchlovers.asl_service.exceptions.EventNotFoundException;
+import com.austinscotchlovers.asl_service.exceptions.RsvpConflictException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceServiceTest {
+
+    private static final Long EVENT_ID = 7L;
+    private static final Long USER_ID = 3L;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventWaitlistRepository waitlistRepository;
+
+    @InjectMocks
+    private AttendanceService attendanceService;
+
+    @Test
+    void should_claim_seat_and_add_attendee_when_capacity_allows() {
+        when(eventRepository.existsById(EVENT_ID)).thenReturn(true);
+        when(eventRepository.claimSeat(EVENT_ID)).thenReturn(1);
+
+        RsvpResult result = attendanceService.attend(EVENT_ID, USER_ID);
+
+        assertThat(result).isEqualTo(RsvpResult.attending(EVENT_ID));
+        verify(eventRepository, times(1)).insertAttendee(EVENT_ID, USER_ID);
+        verify(waitlistRepository, never()).findFirstByEventIdOrderByIdAsc(any());
+        verify(waitlistRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void should_return_existing_attendance_without_claiming_another_seat() {
+        when(eventRepository.existsById(EVENT_ID)).thenReturn(true);
+        when(eventRepository.countAttendee(EVENT_ID, USER_ID)).thenReturn(1L);
+
+        RsvpResult result = attendanceService.attend(EVENT_ID, USER_ID);
+
+        assertThat(result).isEqualTo(RsvpResult.attending(EVENT_ID));
+        verify(eventRepository, never()).claimSeat(any());
+    }
+
+    @Test
+    void should_waitlist_when_event_is_full() {
+        EventWaitlistEntry entry = waitlistEntry(11L, USER_ID);
+        when(eventRepository.existsById(EVENT_ID)).thenReturn(true);
+        when(eventRepository.claimSeat(EVENT_ID)).thenReturn(0);
+        when(waitlistRepository.saveAndFlush(any(EventWaitlistEntry.class))).thenReturn(entry);
+        when(waitlistRepository.findPosition(EVENT_ID, 11L)).thenReturn(4L);
+
+        RsvpResult result = attendanceService.attend(EVENT_ID, USER_ID);
+
+        assertThat(result).isEqualTo(RsvpResult.waitlisted(EVENT_ID, 4L));
+        verify(eventRepository, never()).insertAttendee(any(), any());
+        verify(waitlistRepository, never()).claim(any());
+    }
+
+    @Test
+    void should_promote_new_waitlist_entry_when_seat_frees_up_during_rsvp() {
+        EventWaitlistEntry entry = waitlistEntry(11L, USER_ID);
+        when(eventRepository.existsById(EVENT_ID)).thenReturn(true);
+        when(eventRepository.claimSeat(EVENT_ID)).thenReturn(0, 1);
+        when(waitlistRepository.saveAndFlush(any(EventWaitlistEntry.class))).thenReturn(entry);
+        when(waitlistRepository.findFirstByEventIdOrderByIdAsc(EVENT_ID)).thenReturn(Optional.of(entry));
+        when(waitlistRepository.claim(11L)).thenReturn(1);
+        when(eventRepository.countAttendee(EVENT_ID, USER_ID)).thenReturn(0L, 1L);
+
+        RsvpResult result = attendanceService.attend(EVENT_ID, USER_ID);
+
+        assertThat(result).isEqualTo(RsvpResult.attending(EVENT_ID));
+        verify(eventRepository, times(1)).insertAttendee(EVENT_ID, USER_ID);
+    }
+
+    @Test
+    void should_report_waitlist_position_for_repeat_rsvp() {
+        when(eventRepository.existsById(EVENT_ID)).thenReturn(true);
+        when(waitlistRepository.findByEventIdAndUserId(EVENT_ID, USER_ID)).thenReturn(Optional.of(waitlistEntry(11L, USER_ID)));
+        when(waitlistRepository.findPosition(EVENT_ID, 11L)).thenReturn(2L);
+
+        assertThat(attendanceService.attend(EVENT_ID, USER_ID)).isEqualTo(RsvpResult.waitlisted(EVENT_ID, 2L));
+        verify(eventRepository, never()).claimSeat(any());
+    }
+
+    @Test
+    void should_translate_concurrent_duplicate_rsvp_into_conflict() {
+        when(eventRepository.existsById(EVENT_ID)).thenReturn(true);
+        when(eventRepository.claimSeat(EVENT_ID)).thenReturn(1);
+        doThrow(DataIntegrityViolationException.class).when(eventRepository).insertAttendee(EVENT_ID, USER_ID);
+
+        assertThrows(RsvpConflictException.class, () -> attendanceService.attend(EVENT_ID, USER_ID));
+    }
+
+    @Test
+    void should_hand_freed_seat_to_oldest_waitlisted_member_on_cancel() {
+        when(eventRepository.existsById(EVENT_ID)).thenReturn(true);
+        when(eventRepository.deleteAttendee(EVENT_ID, USER_ID)).thenReturn(1);
+        when(eventRepository.claimSeat(EVENT_ID)).thenReturn(1);
+        when(waitlistRepository.findFirstByEventIdOrderByIdAsc(EVENT_ID))
+                .thenReturn(Optional.of(waitlistEntry(20L, 8L)), Optional.of(waitlistEntry(21L, 9L)));
+        when(waitlistRepository.claim(20L)).thenReturn(0);
+        when(waitlistRepository.claim(21L)).thenReturn(1);
+
+        attendanceService.cancel(EVENT_ID, USER_ID);
+
+        InOrder inOrder = inOrder(eventRepository);
+        inOrder.verify(eventRepository).releaseSeat(EVENT_ID);
+        inOrder.verify(eventRepository).claimSeat(EVENT_ID);
+        inOrder.verify(eventRepository).insertAttendee(EVENT_ID, 9L);
+        verify(eventRepository, never()).insertAttendee(EVENT_ID, 8L);
+        verify(eventRepository, times(1)).releaseSeat(EVENT_ID);
+    }
+
+    @Test
+    void should_release_seat_on_cancel_when_nobody_is_waiting() {
+        when(eventRepository.existsById(EVENT_ID)).thenReturn(true);
+        when(eventRepository.deleteAttendee(EVENT_ID, USER_ID)).thenReturn(1);
+        when(eventRepository.claimSeat(EVENT_ID)).thenReturn(1);
+        when(waitlistRepository.findFirstByEventIdOrderByIdAsc(EVENT_ID)).thenReturn(Optional.empty());
+
+        attendanceService.cancel(EVENT_ID, USER_ID);
+
+        verify(eventRepository, times(2)).releaseSeat(EVENT_ID);
+        verify(eventRepository, never()).insertAttendee(any(), any());
+    }
+
+    @Test
+    void should_leave_waitlist_on_cancel_when_not_attending() {
+        when(eventRepository.existsById(EVENT_ID)).thenReturn(true);
+        when(eventRepository.deleteAttendee(EVENT_ID, USER_ID)).thenReturn(0);
+
+        attendanceService.cancel(EVENT_ID, USER_ID);
+
+        verify(waitlistRepository, times(1)).deleteByEventIdAndUserId(EVENT_ID, USER_ID);
+        verify(eventRepository, never()).releaseSeat(any());
+    }
+
+    @Test
+    void should_promote_waitlisted_members_until_seats_run_out() {
+        when(eventRepository.claimSeat(EVENT_ID)).thenReturn(1, 1, 0);
+        when(waitlistRepository.findFirstByEventIdOrderByIdAsc(EVENT_ID))
+                .thenReturn(Optional.of(waitlistEntry(20L, 8L)), Optional.of(waitlistEntry(21L, 9L)));
+        when(waitlistRepository.claim(20L)).thenReturn(1);
+        when(waitlistRepository.claim(21L)).thenReturn(1);
+
+        int promoted = attendanceService.promoteWaitlisted(EVENT_ID);
+
+        assertThat(promoted).isEqualTo(2);
+        verify(eventRepository).insertAttendee(EVENT_ID, 8L);
+        verify(eventRepository).insertAttendee(EVENT_ID, 9L);
+        verify(eventRepository, never()).releaseSeat(any());
+    }
+
+    @Test
+    void should_return_unused_seat_when_waitlist_empties_during_promotion() {
+        when(eventRepository.claimSeat(EVENT_ID)).thenReturn(1);
+        when(waitlistRepository.findFirstByEventIdOrderByIdAsc(EVENT_ID)).thenReturn(Optional.empty());
+
+        assertThat(attendanceService.promoteWaitlisted(EVENT_ID)).isZero();
+        verify(eventRepository, times(1)).releaseSeat(EVENT_ID);
+    }
+
+    @Test
+    void should_throw_when_event_does_not_exist() {
+        when(eventRepository.existsById(EVENT_ID)).thenReturn(false);
+
+        assertThrows(EventNotFoundException.class, () -> attendanceService.attend(EVENT_ID, USER_ID));
+        assertThrows(EventNotFoundException.class, () -> attendanceService.cancel(EVENT_ID, USER_ID));
+        verifyNoInteractions(waitlistRepository);
+    }
+
+    private EventWaitlistEntry waitlistEntry(Long id, Long userId) {
+        EventWaitlistEntry entry = new EventWaitlistEntry(EVENT_ID, userId, Instant.now());
+        entry.setId(id);
+        return entry;
+    }
+}
@@ -0,0 +1,76 @@
+package com.austinscotchlovers.asl_service.events;
+
+import com.austinscotchlovers.asl_service.config.SecondLevelCacheConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(SecondLevelCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EventArchiveConcurrencyTest {
+
+    private static final LocalDate CUTOFF = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM events");
+    }
+
+    @Test
+    void should_skip_rows_claimed_by_another_archive_run() {
+        List<Long> ids = createPastEvents(4);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<List<Long>> claims = transactionTemplate.execute(status -> {
+                List<Long> first = eventRepository.claimIdsDatedBefore(CUTOFF, 2);
+                List<Long> second = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(
+                        inner -> eventRepository.claimIdsDatedBefore(CUTOFF, 10)), executor)
+                        .orTimeout(30, TimeUnit.SECONDS)
+                        .join();
+                return List.of(first, second);
+            });
+
+            assertThat(claims.get(0)).containsExactlyElementsOf(ids.subList(0, 2));
+            assertThat(claims.get(1)).containsExactlyElementsOf(ids.subList(2, 4));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Long> createPastEvents(int count) {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(new Event("Old " + i, null, LocalDate.of(2023, 1, 1 + i), LocalTime.of(19, 0), "Here", new ArrayList<>()));
+        }
+        return eventRepository.saveAll(events).stream().map(Event::getId).toList();
+    }
+}
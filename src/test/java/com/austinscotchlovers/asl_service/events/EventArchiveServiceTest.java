@@ -0,0 +1,112 @@
+package com.austinscotchlovers.asl_service.events;
+
+import com.austinscotchlovers.asl_service.events.dto.EventPage;
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
+import com.austinscotchlovers.asl_service.exceptions.EventNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventArchiveServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-06-15T12:00:00Z"), ZoneId.of("America/Chicago"));
+    private static final LocalDate CUTOFF = LocalDate.of(2024, 6, 15);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventWaitlistRepository waitlistRepository;
+
+    @Mock
+    private ArchivedEventRepository archivedEventRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EventArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        archiveService = new EventArchiveService(eventRepository, waitlistRepository, archivedEventRepository,
+                eventPublisher, transactionManager, CLOCK, Period.ofYears(1), 2, 3);
+    }
+
+    @Test
+    void should_move_events_older_than_horizon_in_batches_until_drained() {
+        when(eventRepository.claimIdsDatedBefore(CUTOFF, 2))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+
+        int archived = archiveService.archivePastEvents();
+
+        assertThat(archived).isEqualTo(3);
+        verify(archivedEventRepository).copyEvents(List.of(1L, 2L), CLOCK.instant());
+        verify(archivedEventRepository).copyAttendance(List.of(1L, 2L));
+        verify(eventRepository).deleteAttendeesByEventIds(List.of(1L, 2L));
+        verify(waitlistRepository).deleteByEventIds(List.of(1L, 2L));
+        verify(eventRepository).deleteByIds(List.of(3L));
+        verify(eventPublisher).publishEvent(EventChange.archived(1L));
+        verify(eventPublisher).publishEvent(EventChange.archived(2L));
+        verify(eventPublisher).publishEvent(EventChange.archived(3L));
+        verify(eventPublisher, times(3)).publishEvent(any(EventChange.class));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void should_stop_after_max_batches() {
+        when(eventRepository.claimIdsDatedBefore(CUTOFF, 2)).thenReturn(List.of(1L, 2L));
+
+        assertThat(archiveService.archivePastEvents()).isEqualTo(6);
+        verify(eventRepository, times(3)).deleteByIds(List.of(1L, 2L));
+    }
+
+    @Test
+    void should_do_nothing_when_no_event_is_past_horizon() {
+        when(eventRepository.claimIdsDatedBefore(CUTOFF, 2)).thenReturn(List.of());
+
+        assertThat(archiveService.archivePastEvents()).isZero();
+        verifyNoInteractions(archivedEventRepository, waitlistRepository, eventPublisher);
+    }
+
+    @Test
+    void should_page_archived_events_with_cursor() {
+        EventSummary first = new EventSummary(1L, "A", null, LocalDate.of(2020, 1, 1), LocalTime.of(19, 0), "Here");
+        EventSummary second = new EventSummary(2L, "B", null, LocalDate.of(2020, 1, 2), LocalTime.of(19, 0), "Here");
+        when(archivedEventRepository.findFirstPage(null, null, Limit.of(2))).thenReturn(List.of(first, second));
+
+        EventPage page = archiveService.getArchivedEvents(null, null, null, 1);
+
+        assertThat(page.items()).containsExactly(first);
+        assertThat(page.next()).isEqualTo(EventCursor.of(first).encode());
+    }
+
+    @Test
+    void should_throw_when_archived_event_is_missing() {
+        when(archivedEventRepository.findDetailById(5L)).thenReturn(Optional.empty());
+
+        assertThrows(EventNotFoundException.class, () -> archiveService.getArchivedEventById(5L));
+    }
+}
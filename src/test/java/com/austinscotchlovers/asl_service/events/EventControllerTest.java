@@ -1,8 +1,25 @@
 package com.austinscotchlovers.asl_service.events;
 
+import com.austinscotchlovers.asl_service.events.dto.BulkEventDeleteResponse;
+import com.austinscotchlovers.asl_service.events.dto.BulkEventResponse;
+import com.austinscotchlovers.asl_service.events.dto.BulkEventResult;
+import com.austinscotchlovers.asl_service.events.dto.EventDetail;
 import com.austinscotchlovers.asl_service.events.dto.EventDto;
+import com.austinscotchlovers.asl_service.events.dto.EventFilter;
+import com.austinscotchlovers.asl_service.events.dto.EventPage;
+import com.austinscotchlovers.asl_service.events.dto.EventSearchHit;
+import com.austinscotchlovers.asl_service.events.dto.EventSearchPage;
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
+import com.austinscotchlovers.asl_service.events.dto.RsvpResult;
 import com.austinscotchlovers.asl_service.events.mapper.EventMapper;
+import com.austinscotchlovers.asl_service.events.search.EventSearchIndex;
 import com.austinscotchlovers.asl_service.exceptions.EventNotFoundException;
+import com.austinscotchlovers.asl_service.exceptions.InvalidQueryParameterException;
+import com.austinscotchlovers.asl_service.exceptions.PreconditionFailedException;
+import com.austinscotchlovers.asl_service.exceptions.RsvpConflictException;
+import com.austinscotchlovers.asl_service.export.ExportFormat;
+import com.austinscotchlovers.asl_service.users.security.WithMockCustomUser;
+import com.austinscotchlovers.asl_service.web.ETags;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,19 +31,27 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -39,43 +64,242 @@ class EventControllerTest {
     @MockitoBean
     private EventService eventService;
 
+    @MockitoBean
+    private EventExportService eventExportService;
+
+    @MockitoBean
+    private AttendanceService attendanceService;
+
+    @MockitoBean
+    private EventArchiveService archiveService;
+
+    @MockitoBean
+    private EventSearchIndex searchIndex;
+
     @MockitoBean
     private EventMapper eventMapper;
 
+    @MockitoBean
+    private EventListSnapshot listSnapshot;
+
     @Autowired
     private ObjectMapper objectMapper;
 
 
-    private Event testEvent;
+    private EventSummary testEvent;
     private EventDto testEventDto;
 
     @BeforeEach
     void setUp() {
-        testEvent = new Event("Test Event", "Test Description", LocalDate.now(), LocalTime.now(), "Test Location", new ArrayList<>());
-        testEvent.setId(1L);
+        testEvent = new EventSummary(1L, "Test Event", "Test Description", LocalDate.now(), LocalTime.now(), "Test Location");
         testEventDto = new EventDto("Test Event", "Test Description", LocalDate.now(), LocalTime.now(), "Test Location");
     }
 
     @Test
     @WithMockUser
-    void should_return_all_events_on_get_request() throws Exception {
-        List<Event> allEvents = Collections.singletonList(testEvent);
-        given(eventService.getAllEvents()).willReturn(allEvents);
+    void should_return_first_page_of_events_on_get_request() throws Exception {
+        List<EventSummary> allEvents = Collections.singletonList(testEvent);
+        given(eventService.getEvents(any(EventFilter.class), isNull(), eq(20))).willReturn(new EventPage(allEvents, "next-token"));
 
         mockMvc.perform(get("/api/v1/events"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].name").value("Test Event"))
+                .andExpect(jsonPath("$.next").value("next-token"));
+    }
+
+    @Test
+    void should_pass_filters_and_cursor_to_service() throws Exception {
+        given(eventService.getEvents(any(EventFilter.class), eq("abc"), eq(5))).willReturn(new EventPage(List.of(), null));
+
+        mockMvc.perform(get("/api/v1/events")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-12-31")
+                        .param("location", "Zilker")
+                        .param("cursor", "abc")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)));
+
+        verify(eventService).getEvents(
+                new EventFilter(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), "Zilker"), "abc", 5);
+    }
+
+    @Test
+    void should_return_upcoming_events() throws Exception {
+        given(eventService.getUpcomingEvents(any(LocalDateTime.class), eq(3))).willReturn(List.of(testEvent));
+
+        mockMvc.perform(get("/api/v1/events/upcoming").param("limit", "3"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)))
-                .andExpect(jsonPath("$[0].name").value("Test Event"));
+                .andExpect(jsonPath("$[0].name").value("Test Event"))
+                .andExpect(header().string("Cache-Control", "max-age=10, must-revalidate, public"));
+    }
+
+    @Test
+    void should_search_events() throws Exception {
+        given(searchIndex.search("islay", 0, 20))
+                .willReturn(new EventSearchPage(List.of(new EventSearchHit(testEvent, 2.5)), 0, 20, 1));
+
+        mockMvc.perform(get("/api/v1/events/search").param("q", "islay"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].event.name").value("Test Event"))
+                .andExpect(jsonPath("$.items[0].score").value(2.5))
+                .andExpect(jsonPath("$.total").value(1));
+    }
+
+    @Test
+    void should_return_bad_request_for_search_without_query() throws Exception {
+        mockMvc.perform(get("/api/v1/events/search"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void should_return_bad_request_when_from_is_after_to() throws Exception {
+        mockMvc.perform(get("/api/v1/events")
+                        .param("from", "2025-12-31")
+                        .param("to", "2025-01-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void should_return_bad_request_for_invalid_cursor() throws Exception {
+        given(eventService.getEvents(any(EventFilter.class), eq("garbage"), anyInt()))
+                .willThrow(new InvalidQueryParameterException("Invalid cursor."));
+
+        mockMvc.perform(get("/api/v1/events").param("cursor", "garbage"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void should_stream_event_export_as_csv_attachment() throws Exception {
+        willAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("id,name\r\n1,Test Event\r\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).given(eventExportService).exportEvents(eq(ExportFormat.CSV), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/events/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"events.csv\""))
+                .andExpect(content().string("id,name\r\n1,Test Event\r\n"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void should_return_bad_request_for_unknown_export_format() throws Exception {
+        mockMvc.perform(get("/api/v1/events/export").param("format", "xlsx"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(eventExportService);
+    }
+
+    @Test
+    @WithMockUser
+    void should_return_forbidden_when_member_exports_events() throws Exception {
+        mockMvc.perform(get("/api/v1/events/export"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void should_return_unauthorized_when_guest_exports_events() throws Exception {
+        mockMvc.perform(get("/api/v1/events/export"))
+                .andExpect(status().isUnauthorized());
     }
 
     @Test
     @WithMockUser
     void should_return_event_by_id() throws Exception {
-        given(eventService.getEventById(1L)).willReturn(testEvent);
+        EventDetail detail = new EventDetail(1L, "Test Event", "Test Description", LocalDate.now(), LocalTime.now(), "Test Location", null, 12, 4L);
+        given(eventService.getEventById(1L)).willReturn(detail);
 
         mockMvc.perform(get("/api/v1/events/1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.name").value("Test Event"));
+                .andExpect(jsonPath("$.name").value("Test Event"))
+                .andExpect(jsonPath("$.attendeeCount").value(12))
+                .andExpect(jsonPath("$.attendees").doesNotExist())
+                .andExpect(header().string("ETag", "\"4.12\""))
+                .andExpect(header().string("Cache-Control", "max-age=10, must-revalidate, public"));
+    }
+
+    @Test
+    void should_return_not_modified_for_event_with_matching_etag() throws Exception {
+        EventDetail detail = new EventDetail(1L, "Test Event", "Test Description", LocalDate.now(), LocalTime.now(), "Test Location", null, 12, 4L);
+        given(eventService.getEventById(1L)).willReturn(detail);
+
+        mockMvc.perform(get("/api/v1/events/1").header("If-None-Match", "\"4.12\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"4.12\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void should_return_not_modified_when_the_returned_page_is_unchanged() throws Exception {
+        EventPage page = new EventPage(List.of(testEvent), "next-token");
+        given(eventService.getEvents(any(EventFilter.class), eq("cursor-1"), eq(20))).willReturn(page);
+        String etag = ETags.digest("cursor-1", page);
+
+        mockMvc.perform(get("/api/v1/events").param("cursor", "cursor-1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        verify(eventService, times(1)).getEvents(any(), any(), anyInt());
+    }
+
+    @Test
+    void should_return_event_list_when_etag_is_stale() throws Exception {
+        given(eventService.getEvents(any(EventFilter.class), isNull(), eq(20))).willReturn(new EventPage(List.of(testEvent), null));
+
+        mockMvc.perform(get("/api/v1/events").header("If-None-Match", "\"0.0.0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETags.digest(null, new EventPage(List.of(testEvent), null))))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+    }
+
+    @Test
+    void should_serve_default_event_list_from_snapshot() throws Exception {
+        byte[] json = "{\"items\":[{\"id\":1,\"name\":\"Snapshot\"}],\"next\":null}".getBytes(StandardCharsets.UTF_8);
+        given(listSnapshot.lookup(any(EventFilter.class), isNull(), eq(20)))
+                .willReturn(Optional.of(new EventListSnapshot.Snapshot(1, "\"1.1.0\"", "\"1.1.0.gzip\"", json, new byte[]{1, 2})));
+
+        mockMvc.perform(get("/api/v1/events"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1.1.0\""))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.items[0].name").value("Snapshot"));
+
+        verify(eventService, never()).getEvents(any(), any(), anyInt());
+    }
+
+    @Test
+    void should_serve_gzip_snapshot_when_client_accepts_it() throws Exception {
+        byte[] gzip = {31, -117, 8, 0};
+        given(listSnapshot.lookup(any(EventFilter.class), isNull(), eq(20)))
+                .willReturn(Optional.of(new EventListSnapshot.Snapshot(1, "\"1.1.0\"", "\"1.1.0.gzip\"", new byte[0], gzip)));
+
+        mockMvc.perform(get("/api/v1/events").header("Accept-Encoding", "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("ETag", "\"1.1.0.gzip\""))
+                .andExpect(content().bytes(gzip));
+    }
+
+    @Test
+    void should_return_not_modified_for_unchanged_snapshot() throws Exception {
+        given(listSnapshot.lookup(any(EventFilter.class), isNull(), eq(20)))
+                .willReturn(Optional.of(new EventListSnapshot.Snapshot(1, "\"1.1.0\"", "\"1.1.0.gzip\"", new byte[0], new byte[0])));
+
+        mockMvc.perform(get("/api/v1/events").header("If-None-Match", "\"1.1.0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
     }
 
     @Test
@@ -91,14 +315,68 @@ class EventControllerTest {
                 .andExpect(jsonPath("$.name").value("Test Event"));
     }
 
+    @Test
+    @WithMockUser
+    void should_create_events_in_bulk_from_json_array() throws Exception {
+        BulkEventResponse response = new BulkEventResponse(1, 1, List.of(
+                BulkEventResult.created(0, 1L),
+                BulkEventResult.rejected(1, List.of("name: Name is required."))));
+        given(eventService.createEvents(anyList())).willReturn(response);
+
+        mockMvc.perform(post("/api/v1/events/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(testEventDto, testEventDto)))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[0].id").value(1))
+                .andExpect(jsonPath("$.results[1].errors[0]").value("name: Name is required."));
+    }
+
+    @Test
+    @WithMockUser
+    void should_create_events_in_bulk_from_ndjson() throws Exception {
+        given(eventService.createEvents(List.of(testEventDto, testEventDto)))
+                .willReturn(new BulkEventResponse(2, 0, List.of(BulkEventResult.created(0, 1L), BulkEventResult.created(1, 2L))));
+        String line = objectMapper.writeValueAsString(testEventDto);
+
+        mockMvc.perform(post("/api/v1/events/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(line + "\n" + line + "\n")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2));
+    }
+
+    @Test
+    @WithMockUser
+    void should_return_bad_request_for_malformed_ndjson() throws Exception {
+        mockMvc.perform(post("/api/v1/events/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"name\": \"ok\"}\n{not json")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+
+        verify(eventService, never()).createEvents(anyList());
+    }
+
+    @Test
+    void should_return_unauthorized_for_bulk_create_without_auth() throws Exception {
+        mockMvc.perform(post("/api/v1/events/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]")
+                        .with(csrf()))
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void should_update_event() throws Exception {
-        Event updatedEvent = new Event("New Event", "New Desc", LocalDate.now(), LocalTime.now(), "New Location", new ArrayList<>());
-        updatedEvent.setId(1L);
+        EventSummary updatedEvent = new EventSummary(1L, "New Event", "New Desc", LocalDate.now(), LocalTime.now(), "New Location");
         EventDto updatedEventDto = new EventDto("New Event", "New Desc", LocalDate.now(), LocalTime.now(), "New Location");
 
-        given(eventService.updateEvent(eq(1L), any(EventDto.class))).willReturn(updatedEvent);
+        given(eventService.updateEvent(eq(1L), any(EventDto.class), isNull())).willReturn(updatedEvent);
 
         mockMvc.perform(put("/api/v1/events/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -108,6 +386,47 @@ class EventControllerTest {
                 .andExpect(jsonPath("$.name").value("New Event"));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void should_pass_if_match_version_to_update() throws Exception {
+        EventSummary updatedEvent = new EventSummary(1L, "New Event", "New Desc", LocalDate.now(), LocalTime.now(), "New Location");
+        given(eventService.updateEvent(eq(1L), any(EventDto.class), eq(4L))).willReturn(updatedEvent);
+
+        mockMvc.perform(put("/api/v1/events/1")
+                        .header("If-Match", "\"4.12\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(testEventDto))
+                        .with(csrf()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void should_return_precondition_failed_when_if_match_is_stale() throws Exception {
+        given(eventService.updateEvent(eq(1L), any(EventDto.class), eq(3L)))
+                .willThrow(new PreconditionFailedException("Event 1 has been modified since version 3"));
+
+        mockMvc.perform(put("/api/v1/events/1")
+                        .header("If-Match", "\"3.12\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(testEventDto))
+                        .with(csrf()))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void should_return_precondition_failed_for_weak_if_match() throws Exception {
+        mockMvc.perform(put("/api/v1/events/1")
+                        .header("If-Match", "W/\"4.12\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(testEventDto))
+                        .with(csrf()))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(eventService, never()).updateEvent(anyLong(), any(), any());
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void should_delete_event() throws Exception {
@@ -118,6 +437,58 @@ class EventControllerTest {
         verify(eventService, times(1)).deleteEvent(1L);
     }
 
+    @Test
+    void should_list_archived_events_publicly() throws Exception {
+        EventSummary archived = new EventSummary(9L, "Old Tasting", null, LocalDate.of(2020, 1, 1), LocalTime.of(19, 0), "Here");
+        when(archiveService.getArchivedEvents(LocalDate.of(2020, 1, 1), null, null, 20))
+                .thenReturn(new EventPage(List.of(archived), null));
+
+        mockMvc.perform(get("/api/v1/events/archive").param("from", "2020-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(9));
+    }
+
+    @Test
+    void should_return_archived_event_with_etag() throws Exception {
+        when(archiveService.getArchivedEventById(9L)).thenReturn(
+                new EventDetail(9L, "Old Tasting", null, LocalDate.of(2020, 1, 1), LocalTime.of(19, 0), "Here", 20, 12, 4L));
+
+        mockMvc.perform(get("/api/v1/events/archive/9"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.attendeeCount").value(12));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void should_bulk_delete_events_by_ids_when_admin() throws Exception {
+        when(eventService.deleteEvents(List.of(1L, 2L))).thenReturn(new BulkEventDeleteResponse(2, 2));
+
+        mockMvc.perform(delete("/api/v1/events").param("ids", "1,2").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void should_bulk_delete_events_by_date_range_when_admin() throws Exception {
+        when(eventService.deleteEventsBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30)))
+                .thenReturn(new BulkEventDeleteResponse(7, 7));
+
+        mockMvc.perform(delete("/api/v1/events").param("from", "2024-01-01").param("to", "2024-06-30").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(7));
+    }
+
+    @Test
+    @WithMockUser(roles = "MEMBER")
+    void should_forbid_bulk_delete_for_members() throws Exception {
+        mockMvc.perform(delete("/api/v1/events").param("ids", "1").with(csrf()))
+                .andExpect(status().isForbidden());
+
+        verify(eventService, never()).deleteEvents(any());
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void should_return_bad_request_on_invalid_create_request() throws Exception {
@@ -154,7 +525,7 @@ class EventControllerTest {
     @WithMockUser(roles = "ADMIN")
     void should_return_not_found_on_update_request_for_nonexistent_event() throws Exception {
         EventDto updatedDto = new EventDto("New Event", "New Desc", LocalDate.now(), LocalTime.now(), "New Location");
-        given(eventService.updateEvent(eq(99L), any(EventDto.class))).willThrow(new EventNotFoundException("Event not found."));
+        given(eventService.updateEvent(eq(99L), any(EventDto.class), isNull())).willThrow(new EventNotFoundException("Event not found."));
 
         mockMvc.perform(put("/api/v1/events/99")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -197,4 +568,41 @@ class EventControllerTest {
                         .with(csrf()))
                 .andExpect(status().isUnauthorized());
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockCustomUser(roles = "MEMBER", id = 5L)
+    void should_rsvp_as_authenticated_member() throws Exception {
+        given(attendanceService.attend(1L, 5L)).willReturn(RsvpResult.waitlisted(1L, 3L));
+
+        mockMvc.perform(post("/api/v1/events/1/attendees").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("WAITLISTED"))
+                .andExpect(jsonPath("$.waitlistPosition").value(3));
+    }
+
+    @Test
+    @WithMockCustomUser(roles = "MEMBER", id = 5L)
+    void should_return_conflict_for_concurrent_duplicate_rsvp() throws Exception {
+        given(attendanceService.attend(1L, 5L)).willThrow(new RsvpConflictException("An RSVP for event 1 is already in progress"));
+
+        mockMvc.perform(post("/api/v1/events/1/attendees").with(csrf()))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @WithMockCustomUser(roles = "MEMBER", id = 5L)
+    void should_cancel_rsvp() throws Exception {
+        mockMvc.perform(delete("/api/v1/events/1/attendees").with(csrf()))
+                .andExpect(status().isNoContent());
+
+        verify(attendanceService, times(1)).cancel(1L, 5L);
+    }
+
+    @Test
+    void should_return_unauthorized_for_rsvp_without_auth() throws Exception {
+        mockMvc.perform(post("/api/v1/events/1/attendees").with(csrf()))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(attendanceService);
+    }
+}
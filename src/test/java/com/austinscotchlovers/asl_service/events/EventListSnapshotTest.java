@@ -0,0 +1,118 @@
+package com.austinscotchlovers.asl_service.events;
+
+import com.austinscotchlovers.asl_service.events.dto.EventFilter;
+import com.austinscotchlovers.asl_service.events.dto.EventPage;
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import com.austinscotchlovers.asl_service.web.ETags;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventListSnapshotTest {
+
+    @Mock
+    private EventService eventService;
+
+    private EventListSnapshot listSnapshot;
+
+    private final EventSummary event = new EventSummary(
+            1L, "Islay Night", "Peated drams", LocalDate.of(2025, 9, 1), LocalTime.of(19, 0), "Downtown");
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        listSnapshot = new EventListSnapshot(eventService, objectMapper);
+    }
+
+    private final EventPage firstPage = new EventPage(List.of(event), null);
+
+    private void givenFirstPage() {
+        when(eventService.getEvents(EventFilter.none(), null, EventListSnapshot.DEFAULT_LIMIT)).thenReturn(firstPage);
+    }
+
+    @Test
+    void should_build_once_and_serve_the_same_bytes_until_an_event_changes() throws IOException {
+        givenFirstPage();
+
+        EventListSnapshot.Snapshot first = listSnapshot.lookup(EventFilter.none(), null, 20).orElseThrow();
+        EventListSnapshot.Snapshot second = listSnapshot.lookup(EventFilter.none(), "", 20).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.etag()).isEqualTo(ETags.digest(null, firstPage));
+        assertThat(first.gzipEtag()).isNotEqualTo(first.etag());
+        assertThat(new String(first.json())).contains("\"name\":\"Islay Night\"");
+        assertThat(gunzip(first.gzip())).isEqualTo(first.json());
+        verify(eventService, times(1)).getEvents(EventFilter.none(), null, EventListSnapshot.DEFAULT_LIMIT);
+    }
+
+    @Test
+    void should_rebuild_after_an_event_change_commits() {
+        givenFirstPage();
+        EventListSnapshot.Snapshot before = listSnapshot.lookup(EventFilter.none(), null, 20).orElseThrow();
+        when(eventService.getEvents(EventFilter.none(), null, EventListSnapshot.DEFAULT_LIMIT))
+                .thenReturn(new EventPage(List.of(), null));
+
+        listSnapshot.onEventChange(EventChange.deleted(1L));
+        EventListSnapshot.Snapshot after = listSnapshot.lookup(EventFilter.none(), null, 20).orElseThrow();
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        verify(eventService, times(2)).getEvents(EventFilter.none(), null, EventListSnapshot.DEFAULT_LIMIT);
+    }
+
+    @Test
+    void should_rebuild_on_the_next_lookup_after_a_scheduled_refresh() {
+        givenFirstPage();
+        EventListSnapshot.Snapshot before = listSnapshot.lookup(EventFilter.none(), null, 20).orElseThrow();
+
+        listSnapshot.refresh();
+        EventListSnapshot.Snapshot after = listSnapshot.lookup(EventFilter.none(), null, 20).orElseThrow();
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.generation()).isGreaterThan(before.generation());
+        assertThat(after.etag()).isEqualTo(before.etag());
+        verify(eventService, times(2)).getEvents(EventFilter.none(), null, EventListSnapshot.DEFAULT_LIMIT);
+    }
+
+    @Test
+    void should_not_touch_the_database_while_the_snapshot_is_current() {
+        givenFirstPage();
+        listSnapshot.lookup(EventFilter.none(), null, 20).orElseThrow();
+
+        for (int i = 0; i < 5; i++) {
+            listSnapshot.lookup(EventFilter.none(), null, 20).orElseThrow();
+        }
+
+        verify(eventService, times(1)).getEvents(EventFilter.none(), null, EventListSnapshot.DEFAULT_LIMIT);
+    }
+
+    @Test
+    void should_not_serve_filtered_or_paged_requests() {
+        assertThat(listSnapshot.lookup(new EventFilter(null, null, "Downtown"), null, 20)).isEmpty();
+        assertThat(listSnapshot.lookup(EventFilter.none(), "cursor", 20)).isEmpty();
+        assertThat(listSnapshot.lookup(EventFilter.none(), null, 50)).isEmpty();
+        verifyNoInteractions(eventService);
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
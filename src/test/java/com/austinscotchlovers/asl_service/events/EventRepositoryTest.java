@@ -1,22 +1,43 @@
 package com.austinscotchlovers.asl_service.events;
 
+import com.austinscotchlovers.asl_service.config.SecondLevelCacheConfig;
+import com.austinscotchlovers.asl_service.events.dto.EventDetail;
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
+import com.austinscotchlovers.asl_service.users.User;
+import com.austinscotchlovers.asl_service.users.UserRepository;
+import com.austinscotchlovers.asl_service.users.security.Role;
+import jakarta.persistence.Cache;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
+@Import(SecondLevelCacheConfig.class)
 class EventRepositoryTest {
 
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void should_save_an_event() {
         Event event = new Event("Summer Social",
@@ -62,4 +83,171 @@ class EventRepositoryTest {
 
         assertThat(eventRepository.findById(savedEvent.getId())).isNotPresent();
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_page_events_by_date_time_and_id() {
+        LocalDate day = LocalDate.of(2025, 6, 1);
+        Event early = eventRepository.save(new Event("Early", "d", day, LocalTime.of(17, 0), "Zilker Park", new ArrayList<>()));
+        Event lateA = eventRepository.save(new Event("Late A", "d", day, LocalTime.of(20, 0), "Downtown", new ArrayList<>()));
+        Event lateB = eventRepository.save(new Event("Late B", "d", day, LocalTime.of(20, 0), "Zilker Park", new ArrayList<>()));
+        Event nextDay = eventRepository.save(new Event("Next Day", "d", day.plusDays(1), LocalTime.of(9, 0), "Downtown", new ArrayList<>()));
+
+        List<EventSummary> firstPage = eventRepository.findFirstPage(null, null, null, Limit.of(2));
+        assertThat(firstPage).extracting(EventSummary::id).containsExactly(early.getId(), lateA.getId());
+
+        EventSummary last = firstPage.getLast();
+        List<EventSummary> secondPage = eventRepository.findPageAfter(null, null, null,
+                last.date(), last.time(), last.id(), Limit.of(2));
+        assertThat(secondPage).extracting(EventSummary::id).containsExactly(lateB.getId(), nextDay.getId());
+    }
+
+    @Test
+    void should_filter_pages_by_date_range_and_location() {
+        LocalDate day = LocalDate.of(2025, 6, 1);
+        eventRepository.save(new Event("Before", "d", day.minusDays(1), LocalTime.NOON, "Zilker Park", new ArrayList<>()));
+        Event inRange = eventRepository.save(new Event("In Range", "d", day, LocalTime.NOON, "Zilker Park", new ArrayList<>()));
+        eventRepository.save(new Event("Elsewhere", "d", day, LocalTime.NOON, "Downtown", new ArrayList<>()));
+        eventRepository.save(new Event("After", "d", day.plusDays(1), LocalTime.NOON, "Zilker Park", new ArrayList<>()));
+
+        List<EventSummary> page = eventRepository.findFirstPage(day, day, "zilker", Limit.of(10));
+
+        assertThat(page).extracting(EventSummary::id).containsExactly(inRange.getId());
+    }
+
+    @Test
+    void should_match_location_wildcards_literally_when_escaped() {
+        LocalDate day = LocalDate.of(2025, 6, 1);
+        Event literal = eventRepository.save(new Event("Literal", "d", day, LocalTime.NOON, "Bar 100% Scotch", new ArrayList<>()));
+        eventRepository.save(new Event("Other", "d", day, LocalTime.NOON, "Bar 1000 Scotch", new ArrayList<>()));
+
+        List<EventSummary> page = eventRepository.findFirstPage(null, null, "100!%", Limit.of(10));
+
+        assertThat(page).extracting(EventSummary::id).containsExactly(literal.getId());
+    }
+
+    @Test
+    void should_find_event_detail_with_attendee_count() {
+        Event event = new Event("Tasting", "Islay night", LocalDate.of(2025, 9, 1), LocalTime.of(19, 0), "Downtown", new ArrayList<>());
+        event.setCapacity(10);
+        event = eventRepository.saveAndFlush(event);
+        eventRepository.openSeats(List.of(event.getId()));
+        User first = userRepository.saveAndFlush(User.builder().withEmail("a@example.com").withUsername("a").withRole(Role.MEMBER).build());
+        User second = userRepository.saveAndFlush(User.builder().withEmail("b@example.com").withUsername("b").withRole(Role.MEMBER).build());
+        for (User user : List.of(first, second)) {
+            assertThat(eventRepository.claimSeat(event.getId())).isEqualTo(1);
+            eventRepository.insertAttendee(event.getId(), user.getId());
+        }
+
+        Optional<EventDetail> detail = eventRepository.findDetailById(event.getId());
+
+        assertThat(detail).isPresent();
+        assertThat(detail.get().name()).isEqualTo("Tasting");
+        assertThat(detail.get().capacity()).isEqualTo(10);
+        assertThat(detail.get().attendeeCount()).isEqualTo(2);
+        assertThat(eventRepository.countAttendee(event.getId(), first.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_claim_seat_beyond_capacity() {
+        Event event = new Event("Small Tasting", null, LocalDate.of(2025, 9, 1), LocalTime.of(19, 0), "Downtown", new ArrayList<>());
+        event.setCapacity(1);
+        Long id = eventRepository.saveAndFlush(event).getId();
+        eventRepository.openSeats(List.of(id));
+
+        assertThat(eventRepository.claimSeat(id)).isEqualTo(1);
+        assertThat(eventRepository.claimSeat(id)).isZero();
+        assertThat(eventRepository.releaseSeat(id)).isEqualTo(1);
+        assertThat(eventRepository.releaseSeat(id)).isZero();
+        assertThat(eventRepository.findDetailById(id)).get().extracting(EventDetail::attendeeCount).isEqualTo(0);
+    }
+
+    @Test
+    void should_reject_duplicate_attendance() {
+        Long eventId = eventRepository.saveAndFlush(new Event("Social", null, LocalDate.now(), LocalTime.now(), "Here", new ArrayList<>())).getId();
+        Long userId = userRepository.saveAndFlush(User.builder().withEmail("c@example.com").withUsername("c").withRole(Role.MEMBER).build()).getId();
+        eventRepository.insertAttendee(eventId, userId);
+
+        assertThatThrownBy(() -> eventRepository.insertAttendee(eventId, userId))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void should_delete_events_with_attendees_by_ids() {
+        Event attended = eventRepository.saveAndFlush(new Event("Attended", null, LocalDate.of(2024, 3, 1), LocalTime.of(19, 0), "Here", new ArrayList<>()));
+        Event kept = eventRepository.saveAndFlush(new Event("Kept", null, LocalDate.of(2024, 9, 1), LocalTime.of(19, 0), "Here", new ArrayList<>()));
+        Long userId = userRepository.saveAndFlush(User.builder().withEmail("d@example.com").withUsername("d").withRole(Role.MEMBER).build()).getId();
+        eventRepository.insertAttendee(attended.getId(), userId);
+        eventRepository.insertAttendee(kept.getId(), userId);
+
+        List<Long> ids = eventRepository.findIdsByDateBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30), 0L, Limit.of(10));
+        assertThat(ids).containsExactly(attended.getId());
+        assertThat(eventRepository.findIdsByDateBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30), attended.getId(), Limit.of(10)))
+                .isEmpty();
+
+        assertThat(eventRepository.deleteAttendeesByEventIds(ids)).isEqualTo(1);
+        assertThat(eventRepository.deleteByIds(ids)).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(eventRepository.findById(attended.getId())).isEmpty();
+        assertThat(eventRepository.countAttendee(kept.getId(), userId)).isEqualTo(1);
+    }
+
+    @Test
+    void should_stream_all_summaries_in_date_order() {
+        eventRepository.save(new Event("Later", null, LocalDate.of(2025, 6, 1), LocalTime.of(18, 0), "Here", new ArrayList<>()));
+        eventRepository.save(new Event("Earlier", null, LocalDate.of(2025, 1, 1), LocalTime.of(18, 0), "There", new ArrayList<>()));
+
+        try (Stream<EventSummary> summaries = eventRepository.streamAllSummaries()) {
+            assertThat(summaries.map(EventSummary::name)).containsExactly("Earlier", "Later");
+        }
+    }
+
+    @Test
+    void should_find_upcoming_events_from_now_in_start_order() {
+        LocalDate today = LocalDate.of(2025, 5, 10);
+        eventRepository.save(new Event("Yesterday", null, today.minusDays(1), LocalTime.of(20, 0), "Here", new ArrayList<>()));
+        eventRepository.save(new Event("This morning", null, today, LocalTime.of(9, 0), "Here", new ArrayList<>()));
+        eventRepository.save(new Event("Tonight", null, today, LocalTime.of(19, 0), "Here", new ArrayList<>()));
+        eventRepository.save(new Event("Next week", null, today.plusDays(7), LocalTime.of(8, 0), "Here", new ArrayList<>()));
+        eventRepository.save(new Event("Next month", null, today.plusMonths(1), LocalTime.of(18, 0), "Here", new ArrayList<>()));
+
+        List<EventSummary> upcoming = eventRepository.findUpcoming(today, LocalTime.of(12, 0), Limit.of(2));
+
+        assertThat(upcoming).extracting(EventSummary::name).containsExactly("Tonight", "Next week");
+    }
+
+    @Test
+    void should_keep_loaded_events_in_the_second_level_cache() {
+        Cache cache = entityManager.getEntityManager().getEntityManagerFactory().getCache();
+        Event event = entityManager.persistAndFlush(
+                new Event("Cached", null, LocalDate.of(2025, 5, 10), LocalTime.of(18, 0), "Here", new ArrayList<>()));
+        entityManager.clear();
+        cache.evictAll();
+
+        eventRepository.findById(event.getId());
+
+        assertThat(cache.contains(Event.class, event.getId())).isTrue();
+        cache.evictAll();
+    }
+
+    @Test
+    void should_keep_cached_events_when_seats_are_claimed_and_released() {
+        Cache cache = entityManager.getEntityManager().getEntityManagerFactory().getCache();
+        Event event = entityManager.persistAndFlush(
+                new Event("Busy", null, LocalDate.of(2025, 5, 10), LocalTime.of(18, 0), "Here", new ArrayList<>()));
+        Event other = entityManager.persistAndFlush(
+                new Event("Quiet", null, LocalDate.of(2025, 5, 11), LocalTime.of(18, 0), "Here", new ArrayList<>()));
+        eventRepository.openSeats(List.of(event.getId(), other.getId()));
+        entityManager.clear();
+        cache.evictAll();
+        eventRepository.findById(event.getId());
+        eventRepository.findById(other.getId());
+
+        eventRepository.claimSeat(event.getId());
+        eventRepository.releaseSeat(event.getId());
+
+        assertThat(cache.contains(Event.class, event.getId())).isTrue();
+        assertThat(cache.contains(Event.class, other.getId())).isTrue();
+        cache.evictAll();
+    }
+}
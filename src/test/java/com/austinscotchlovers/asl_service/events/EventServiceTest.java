@@ -1,19 +1,40 @@
 package com.austinscotchlovers.asl_service.events;
 
+import com.austinscotchlovers.asl_service.events.dto.BulkEventDeleteResponse;
+import com.austinscotchlovers.asl_service.events.dto.BulkEventResponse;
+import com.austinscotchlovers.asl_service.events.dto.BulkEventResult;
+import com.austinscotchlovers.asl_service.events.dto.EventDetail;
 import com.austinscotchlovers.asl_service.events.dto.EventDto;
+import com.austinscotchlovers.asl_service.events.dto.EventFilter;
+import com.austinscotchlovers.asl_service.events.dto.EventPage;
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
 import com.austinscotchlovers.asl_service.events.mapper.EventMapper;
 import com.austinscotchlovers.asl_service.exceptions.EventNotFoundException;
+import com.austinscotchlovers.asl_service.exceptions.InvalidQueryParameterException;
+import com.austinscotchlovers.asl_service.exceptions.PayloadTooLargeException;
+import com.austinscotchlovers.asl_service.exceptions.PreconditionFailedException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,49 +47,199 @@ class EventServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private EventWaitlistRepository waitlistRepository;
+
+    @Mock
+    private AttendanceService attendanceService;
+
+    @Mock
+    private ArchivedEventRepository archivedEventRepository;
+
     @Mock
     private EventMapper eventMapper;
 
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private EventService eventService;
 
     private Event event;
+    private EventSummary eventSummary;
     private EventDto eventDto;
 
     @BeforeEach
     void setUp() {
         event = new Event("Test Event", "A test description", LocalDate.now(), LocalTime.now(), "Test Location", new ArrayList<>());
         event.setId(1L);
+        eventSummary = new EventSummary(1L, "Test Event", "A test description", event.getDate(), event.getTime(), "Test Location");
         eventDto = new EventDto("Test Event", "A test description", LocalDate.now(), LocalTime.now(), "Test Location");
     }
 
+    @Test
+    void should_return_first_page_without_next_cursor_when_all_rows_fit() {
+        when(eventRepository.findFirstPage(null, null, null, Limit.of(21))).thenReturn(List.of(eventSummary));
+
+        EventPage page = eventService.getEvents(EventFilter.none(), null, 20);
+
+        assertThat(page.items()).containsExactly(eventSummary);
+        assertThat(page.next()).isNull();
+    }
+
+    @Test
+    void should_return_next_cursor_pointing_at_last_item_when_more_rows_exist() {
+        EventSummary first = new EventSummary(1L, "First", null, LocalDate.of(2025, 1, 1), LocalTime.of(18, 0), "Here");
+        EventSummary second = new EventSummary(2L, "Second", null, LocalDate.of(2025, 1, 2), LocalTime.of(19, 30), "There");
+        when(eventRepository.findFirstPage(null, null, null, Limit.of(2))).thenReturn(List.of(first, second));
+
+        EventPage page = eventService.getEvents(EventFilter.none(), null, 1);
+
+        assertThat(page.items()).containsExactly(first);
+        assertThat(EventCursor.decode(page.next())).isEqualTo(new EventCursor(LocalDate.of(2025, 1, 1), LocalTime.of(18, 0), 1L));
+    }
+
+    @Test
+    void should_query_after_decoded_cursor() {
+        EventCursor cursor = new EventCursor(LocalDate.of(2025, 3, 1), LocalTime.of(17, 0), 7L);
+        EventFilter filter = new EventFilter(LocalDate.of(2025, 1, 1), null, "Zilker");
+        when(eventRepository.findPageAfter(LocalDate.of(2025, 1, 1), null, "Zilker",
+                cursor.date(), cursor.time(), cursor.id(), Limit.of(11))).thenReturn(List.of());
+
+        EventPage page = eventService.getEvents(filter, cursor.encode(), 10);
+
+        assertThat(page.items()).isEmpty();
+        assertThat(page.next()).isNull();
+    }
+
+    @Test
+    void should_escape_like_wildcards_in_location_filter() {
+        when(eventRepository.findFirstPage(null, null, "100!% !_bar!!", Limit.of(11))).thenReturn(List.of());
+
+        eventService.getEvents(new EventFilter(null, null, "100% _bar!"), null, 10);
+
+        verify(eventRepository, times(1)).findFirstPage(null, null, "100!% !_bar!!", Limit.of(11));
+    }
+
+    @Test
+    void should_cap_page_size() {
+        when(eventRepository.findFirstPage(null, null, null, Limit.of(EventService.MAX_PAGE_SIZE + 1))).thenReturn(List.of());
+
+        eventService.getEvents(EventFilter.none(), null, 10_000);
+
+        verify(eventRepository, times(1)).findFirstPage(null, null, null, Limit.of(EventService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void should_reject_invalid_cursor_and_limit() {
+        assertThrows(InvalidQueryParameterException.class, () -> eventService.getEvents(EventFilter.none(), "not-a-cursor", 20));
+        assertThrows(InvalidQueryParameterException.class, () -> eventService.getEvents(EventFilter.none(), null, 0));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void should_query_upcoming_events_from_given_instant_with_capped_limit() {
+        LocalDateTime now = LocalDateTime.of(2025, 5, 10, 12, 30);
+        when(eventRepository.findUpcoming(now.toLocalDate(), now.toLocalTime(), Limit.of(EventService.MAX_PAGE_SIZE)))
+                .thenReturn(List.of(eventSummary));
+
+        assertThat(eventService.getUpcomingEvents(now, 500)).containsExactly(eventSummary);
+        assertThrows(InvalidQueryParameterException.class, () -> eventService.getUpcomingEvents(now, 0));
+    }
+
     @Test
     void should_find_event_by_id() {
-        when(eventRepository.findById(anyLong())).thenReturn(Optional.of(event));
-        Event foundEvent = eventService.getEventById(1L);
+        EventDetail detail = new EventDetail(1L, "Test Event", "A test description", event.getDate(), event.getTime(), "Test Location", null, 3, 0L);
+        when(eventRepository.findDetailById(anyLong())).thenReturn(Optional.of(detail));
+        EventDetail foundEvent = eventService.getEventById(1L);
 
-        assertThat(foundEvent).isNotNull();
-        verify(eventRepository, times(1)).findById(1L);
+        assertThat(foundEvent).isEqualTo(detail);
+        verify(eventRepository, times(1)).findDetailById(1L);
+        verify(eventRepository, never()).findById(anyLong());
+        verifyNoInteractions(archivedEventRepository);
     }
 
     @Test
     void should_throw_exception_when_event_not_found() {
-        when(eventRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(eventRepository.findDetailById(anyLong())).thenReturn(Optional.empty());
 
         assertThrows(EventNotFoundException.class, () -> eventService.getEventById(1L));
-        verify(eventRepository, times(1)).findById(1L);
+        verify(eventRepository, times(1)).findDetailById(1L);
+        verify(archivedEventRepository, times(1)).findDetailById(1L);
+    }
+
+    @Test
+    void should_fall_back_to_archive_when_event_is_not_hot() {
+        EventDetail archived = new EventDetail(1L, "Old Tasting", null, LocalDate.of(2020, 1, 1), LocalTime.of(19, 0), "Here", null, 12, 4L);
+        when(eventRepository.findDetailById(1L)).thenReturn(Optional.empty());
+        when(archivedEventRepository.findDetailById(1L)).thenReturn(Optional.of(archived));
+
+        assertThat(eventService.getEventById(1L)).isEqualTo(archived);
     }
 
     @Test
     void should_save_event_from_dto() {
         when(eventMapper.fromDto(any(EventDto.class))).thenReturn(event);
-        when(eventRepository.save(any(Event.class))).thenReturn(event);
+        when(eventRepository.saveAndFlush(any(Event.class))).thenReturn(event);
+        when(eventMapper.toSummary(event)).thenReturn(eventSummary);
 
-        Event savedEvent = eventService.saveEvent(eventDto);
+        EventSummary savedEvent = eventService.saveEvent(eventDto);
 
-        assertThat(savedEvent).isNotNull();
+        assertThat(savedEvent).isEqualTo(eventSummary);
         verify(eventMapper, times(1)).fromDto(eventDto);
-        verify(eventRepository, times(1)).save(event);
+        verify(eventRepository, times(1)).saveAndFlush(event);
+        verify(eventRepository, times(1)).openSeats(List.of(1L));
+        verify(eventPublisher, times(1)).publishEvent(EventChange.saved(eventSummary));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_save_valid_events_in_one_batch_and_report_invalid_ones() {
+        EventDto invalidDto = new EventDto("", null, null, null, "Somewhere");
+        Event second = new Event("Second", null, LocalDate.now(), LocalTime.now(), "There", new ArrayList<>());
+        ConstraintViolation<EventDto> violation = mock(ConstraintViolation.class);
+        Path path = mock(Path.class);
+        when(path.toString()).thenReturn("name");
+        when(violation.getPropertyPath()).thenReturn(path);
+        when(violation.getMessage()).thenReturn("Name is required.");
+        when(validator.validate(eventDto)).thenReturn(Set.of());
+        when(validator.validate(invalidDto)).thenReturn(Set.of(violation));
+        EventDto secondDto = new EventDto("Second", null, LocalDate.now(), LocalTime.now(), "There");
+        when(validator.validate(secondDto)).thenReturn(Set.of());
+        when(eventMapper.fromDto(eventDto)).thenReturn(event);
+        when(eventMapper.fromDto(secondDto)).thenReturn(second);
+        when(eventMapper.toSummary(any(Event.class))).thenReturn(eventSummary);
+        when(eventRepository.saveAllAndFlush(List.of(event, second))).thenAnswer(invocation -> {
+            second.setId(2L);
+            return List.of(event, second);
+        });
+
+        BulkEventResponse response = eventService.createEvents(List.of(eventDto, invalidDto, secondDto));
+
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(response.rejected()).isEqualTo(1);
+        assertThat(response.results()).containsExactly(
+                BulkEventResult.created(0, 1L),
+                BulkEventResult.rejected(1, List.of("name: Name is required.")),
+                BulkEventResult.created(2, 2L));
+        verify(eventRepository, times(1)).saveAllAndFlush(List.of(event, second));
+        verify(eventRepository, times(1)).openSeats(List.of(1L, 2L));
+        verify(eventRepository, never()).saveAndFlush(any(Event.class));
+        verify(eventPublisher, times(2)).publishEvent(any(EventChange.class));
+    }
+
+    @Test
+    void should_reject_bulk_request_over_limit() {
+        List<EventDto> tooMany = Collections.nCopies(EventService.MAX_BULK_SIZE + 1, eventDto);
+
+        assertThrows(PayloadTooLargeException.class, () -> eventService.createEvents(tooMany));
+        verifyNoInteractions(eventRepository, validator);
     }
 
     @Test
@@ -77,39 +248,172 @@ class EventServiceTest {
         existingEvent.setId(1L);
 
         when(eventRepository.findById(1L)).thenReturn(Optional.of(existingEvent));
-        when(eventRepository.save(any(Event.class))).thenReturn(existingEvent);
+        when(eventRepository.saveAndFlush(any(Event.class))).thenReturn(existingEvent);
+        when(eventMapper.toSummary(existingEvent)).thenReturn(eventSummary);
 
-        eventService.updateEvent(1L, eventDto);
+        eventService.updateEvent(1L, eventDto, null);
 
         verify(eventRepository, times(1)).findById(1L);
         verify(eventMapper, times(1)).updateEventFromDto(eventDto, existingEvent);
-        verify(eventRepository, times(1)).save(existingEvent);
+        verify(eventRepository, times(1)).saveAndFlush(existingEvent);
+        verify(eventPublisher, times(1)).publishEvent(EventChange.saved(eventSummary));
+        verifyNoInteractions(attendanceService);
+    }
+
+    @Test
+    void should_promote_waitlisted_members_when_capacity_is_raised() {
+        Event existingEvent = new Event("Old Name", "Old Desc", null, null, null, new ArrayList<>());
+        existingEvent.setId(1L);
+        existingEvent.setCapacity(2);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(existingEvent));
+        doAnswer(invocation -> {
+            existingEvent.setCapacity(5);
+            return null;
+        }).when(eventMapper).updateEventFromDto(eventDto, existingEvent);
+        when(eventRepository.saveAndFlush(existingEvent)).thenReturn(existingEvent);
+        when(eventMapper.toSummary(existingEvent)).thenReturn(eventSummary);
+
+        eventService.updateEvent(1L, eventDto, null);
+
+        verify(attendanceService, times(1)).promoteWaitlisted(1L);
+    }
+
+    @Test
+    void should_not_promote_when_capacity_is_unchanged_or_lowered() {
+        Event existingEvent = new Event("Old Name", "Old Desc", null, null, null, new ArrayList<>());
+        existingEvent.setId(1L);
+        existingEvent.setCapacity(5);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(existingEvent));
+        doAnswer(invocation -> {
+            existingEvent.setCapacity(3);
+            return null;
+        }).when(eventMapper).updateEventFromDto(eventDto, existingEvent);
+        when(eventRepository.saveAndFlush(existingEvent)).thenReturn(existingEvent);
+        when(eventMapper.toSummary(existingEvent)).thenReturn(eventSummary);
+
+        eventService.updateEvent(1L, eventDto, null);
+
+        verifyNoInteractions(attendanceService);
     }
 
     @Test
     void should_throw_exception_when_updating_non_existent_event() {
         when(eventRepository.findById(1L)).thenReturn(Optional.empty());
 
-        assertThrows(EventNotFoundException.class, () -> eventService.updateEvent(1L, eventDto));
+        assertThrows(EventNotFoundException.class, () -> eventService.updateEvent(1L, eventDto, null));
         verify(eventRepository, times(1)).findById(1L);
-        verify(eventRepository, never()).save(any(Event.class));
+        verify(eventRepository, never()).saveAndFlush(any(Event.class));
+    }
+
+    @Test
+    void should_reject_update_when_expected_version_is_stale() {
+        Event existingEvent = new Event("Old Name", "Old Desc", null, null, null, new ArrayList<>());
+        existingEvent.setId(1L);
+        existingEvent.setVersion(5L);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(existingEvent));
+
+        assertThrows(PreconditionFailedException.class, () -> eventService.updateEvent(1L, eventDto, 4L));
+
+        verify(eventMapper, never()).updateEventFromDto(any(), any());
+        verify(eventRepository, never()).saveAndFlush(any(Event.class));
+    }
+
+    @Test
+    void should_update_when_expected_version_matches() {
+        Event existingEvent = new Event("Old Name", "Old Desc", null, null, null, new ArrayList<>());
+        existingEvent.setId(1L);
+        existingEvent.setVersion(5L);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(existingEvent));
+        when(eventRepository.saveAndFlush(existingEvent)).thenReturn(existingEvent);
+        when(eventMapper.toSummary(existingEvent)).thenReturn(eventSummary);
+
+        eventService.updateEvent(1L, eventDto, 5L);
+
+        verify(eventRepository, times(1)).saveAndFlush(existingEvent);
+    }
+
+    @Test
+    void should_translate_concurrent_modification_into_precondition_failure() {
+        Event existingEvent = new Event("Old Name", "Old Desc", null, null, null, new ArrayList<>());
+        existingEvent.setId(1L);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(existingEvent));
+        when(eventRepository.saveAndFlush(existingEvent)).thenThrow(new ObjectOptimisticLockingFailureException(Event.class, 1L));
+
+        assertThrows(PreconditionFailedException.class, () -> eventService.updateEvent(1L, eventDto, null));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     void should_delete_event() {
-        when(eventRepository.existsById(1L)).thenReturn(true);
+        when(eventRepository.deleteByIds(List.of(1L))).thenReturn(1);
 
         eventService.deleteEvent(1L);
 
-        verify(eventRepository, times(1)).deleteById(1L);
+        verify(eventRepository, times(1)).deleteAttendeesByEventIds(List.of(1L));
+        verify(waitlistRepository, times(1)).deleteByEventIds(List.of(1L));
+        verify(eventRepository, never()).findById(anyLong());
+        verify(eventPublisher, times(1)).publishEvent(EventChange.deleted(1L));
     }
 
     @Test
     void should_throw_exception_when_deleting_nonexistent_event() {
-        when(eventRepository.existsById(1L)).thenReturn(false);
+        when(eventRepository.deleteByIds(List.of(1L))).thenReturn(0);
 
         assertThrows(EventNotFoundException.class, () -> eventService.deleteEvent(1L));
 
-        verify(eventRepository, never()).deleteById(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void should_bulk_delete_distinct_event_ids() {
+        when(eventRepository.deleteByIds(List.of(1L, 2L, 3L))).thenReturn(2);
+
+        BulkEventDeleteResponse response = eventService.deleteEvents(List.of(1L, 2L, 1L, 3L));
+
+        assertThat(response).isEqualTo(new BulkEventDeleteResponse(3, 2));
+        verify(eventRepository).deleteAttendeesByEventIds(List.of(1L, 2L, 3L));
+        verify(waitlistRepository).deleteByEventIds(List.of(1L, 2L, 3L));
+        verify(eventPublisher, times(3)).publishEvent(any(EventChange.class));
+    }
+
+    @Test
+    void should_reject_bulk_delete_over_limit() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 0; id <= EventService.MAX_BULK_SIZE; id++) {
+            ids.add(id);
+        }
+
+        assertThrows(PayloadTooLargeException.class, () -> eventService.deleteEvents(ids));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void should_delete_events_in_date_range_in_chunks() {
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 12, 31);
+        List<Long> firstChunk = new ArrayList<>();
+        for (long id = 1; id <= EventService.MAX_BULK_SIZE; id++) {
+            firstChunk.add(id);
+        }
+        List<Long> secondChunk = List.of(1_001L, 1_002L, 1_003L);
+        Limit chunkSize = Limit.of(EventService.MAX_BULK_SIZE);
+        when(eventRepository.findIdsByDateBetween(from, to, 0L, chunkSize)).thenReturn(firstChunk);
+        when(eventRepository.findIdsByDateBetween(from, to, EventService.MAX_BULK_SIZE, chunkSize)).thenReturn(secondChunk);
+        when(eventRepository.deleteByIds(any())).thenAnswer(invocation -> invocation.getArgument(0, List.class).size());
+
+        BulkEventDeleteResponse response = eventService.deleteEventsBetween(from, to);
+
+        int total = firstChunk.size() + secondChunk.size();
+        assertThat(response).isEqualTo(new BulkEventDeleteResponse(total, total));
+        verify(eventRepository, times(2)).deleteByIds(any());
+        verify(eventRepository, times(2)).deleteAttendeesByEventIds(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void should_reject_inverted_date_range_delete() {
+        assertThrows(InvalidQueryParameterException.class,
+                () -> eventService.deleteEventsBetween(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1)));
+        verifyNoInteractions(eventRepository);
     }
 }
\ No newline at end of file
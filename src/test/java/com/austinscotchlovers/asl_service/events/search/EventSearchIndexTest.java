@@ -0,0 +1,124 @@
+package com.austinscotchlovers.asl_service.events.search;
+
+import com.austinscotchlovers.asl_service.events.dto.EventSearchHit;
+import com.austinscotchlovers.asl_service.events.dto.EventSearchPage;
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
+import com.austinscotchlovers.asl_service.exceptions.InvalidQueryParameterException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventSearchIndexTest {
+
+    private EventSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new EventSearchIndex();
+        searchIndex.replaceAll(Stream.of(
+                event(1L, "Laphroaig Vertical", "Ten, quarter cask and 18 year old side by side.", "Whisky Bar"),
+                event(2L, "Islay Night", "Peated drams from Lagavulin, Laphroaig and Ardbeg.", "Downtown"),
+                event(3L, "Speyside Social", "Sherried malts and small bites.", "Islay Room, Hotel Ella"),
+                event(4L, "Highland Tasting", "Nothing smoky here.", "Zilker Park")));
+    }
+
+    @Test
+    void should_rank_name_matches_above_location_and_description_matches() {
+        EventSearchPage page = searchIndex.search("Islay", 0, 10);
+
+        assertThat(page.items()).extracting(hit -> hit.event().id()).containsExactly(2L, 3L);
+        assertThat(page.total()).isEqualTo(2);
+    }
+
+    @Test
+    void should_require_every_query_term_to_match() {
+        EventSearchPage page = searchIndex.search("laphroaig vertical", 0, 10);
+
+        assertThat(page.items()).extracting(hit -> hit.event().id()).containsExactly(1L);
+    }
+
+    @Test
+    void should_match_prefixes_and_prefer_exact_terms() {
+        EventSearchPage page = searchIndex.search("lap", 0, 10);
+
+        assertThat(page.items()).extracting(hit -> hit.event().id()).containsExactly(1L, 2L);
+        assertThat(searchIndex.search("laphroaig", 0, 10).items().getFirst().score())
+                .isGreaterThan(page.items().getFirst().score());
+    }
+
+    @Test
+    void should_ignore_case_and_accents() {
+        searchIndex.index(event(5L, "Café Crème Pairing", null, "Eastside"));
+
+        assertThat(searchIndex.search("CAFE creme", 0, 10).items())
+                .extracting(hit -> hit.event().id()).containsExactly(5L);
+    }
+
+    @Test
+    void should_paginate_ranked_results() {
+        EventSearchPage first = searchIndex.search("a", 0, 2);
+        EventSearchPage second = searchIndex.search("a", 1, 2);
+
+        assertThat(first.items()).hasSize(2);
+        assertThat(second.items()).extracting(EventSearchHit::event)
+                .doesNotContainAnyElementsOf(first.items().stream().map(EventSearchHit::event).toList());
+        assertThat(first.total()).isEqualTo(second.total());
+    }
+
+    @Test
+    void should_reflect_updates_and_removals() {
+        searchIndex.index(event(2L, "Campbeltown Night", "Springbank flight.", "Downtown"));
+        assertThat(searchIndex.search("islay night", 0, 10).items()).isEmpty();
+        assertThat(searchIndex.search("springbank", 0, 10).items()).extracting(hit -> hit.event().id()).containsExactly(2L);
+
+        searchIndex.remove(2L);
+        assertThat(searchIndex.search("springbank", 0, 10).items()).isEmpty();
+        assertThat(searchIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    void should_keep_serving_the_previous_index_while_a_rebuild_is_in_progress() {
+        Stream<EventSummary> rebuild = Stream.of(event(5L, "Campbeltown Night", "Springbank flight.", "Downtown"))
+                .peek(event -> assertThat(searchIndex.search("islay", 0, 10).total()).isEqualTo(2));
+
+        searchIndex.replaceAll(rebuild);
+
+        assertThat(searchIndex.size()).isEqualTo(1);
+        assertThat(searchIndex.search("islay", 0, 10).items()).isEmpty();
+    }
+
+    @Test
+    void should_carry_changes_made_during_a_rebuild_into_the_new_index() {
+        Stream<EventSummary> rebuild = Stream.of(
+                        event(1L, "Laphroaig Vertical", "Ten, quarter cask and 18 year old side by side.", "Whisky Bar"),
+                        event(2L, "Islay Night", "Peated drams from Lagavulin, Laphroaig and Ardbeg.", "Downtown"))
+                .peek(event -> {
+                    if (event.id() == 1L) {
+                        searchIndex.index(event(6L, "Springbank Social", null, "Downtown"));
+                        searchIndex.remove(2L);
+                    }
+                });
+
+        searchIndex.replaceAll(rebuild);
+
+        assertThat(searchIndex.search("springbank", 0, 10).items()).extracting(hit -> hit.event().id()).containsExactly(6L);
+        assertThat(searchIndex.search("islay", 0, 10).items()).isEmpty();
+        assertThat(searchIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    void should_reject_queries_without_terms() {
+        assertThrows(InvalidQueryParameterException.class, () -> searchIndex.search(" -- ", 0, 10));
+        assertThrows(InvalidQueryParameterException.class, () -> searchIndex.search("islay", -1, 10));
+    }
+
+    private EventSummary event(Long id, String name, String description, String location) {
+        return new EventSummary(id, name, description, LocalDate.of(2025, 1, id.intValue()), LocalTime.of(19, 0), location);
+    }
+}
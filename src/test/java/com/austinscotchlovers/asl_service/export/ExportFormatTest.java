@@ -0,0 +1,66 @@
+package com.austinscotchlovers.asl_service.export;
+
+import com.austinscotchlovers.asl_service.exceptions.InvalidQueryParameterException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExportFormatTest {
+
+    record Row(Long id, String name, LocalDate date) {}
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void should_write_csv_with_header_and_escaped_cells() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = ExportFormat.CSV.open(Row.class, out, objectMapper).writeAll(Stream.of(
+                new Row(1L, "Tasting, \"Islay\" night", LocalDate.of(2025, 3, 1)),
+                new Row(2L, null, null)));
+
+        assertThat(count).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,name,date\r\n"
+                        + "1,\"Tasting, \"\"Islay\"\" night\",2025-03-01\r\n"
+                        + "2,,\r\n");
+    }
+
+    @Test
+    void should_write_one_json_document_per_line() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExportFormat.NDJSON.open(Row.class, out, objectMapper).writeAll(Stream.of(
+                new Row(1L, "First", null),
+                new Row(2L, "Second", null)));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[1]).get("name").asText()).isEqualTo("Second");
+    }
+
+    @Test
+    void should_write_only_csv_header_when_there_are_no_rows() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = ExportFormat.CSV.open(Row.class, out, objectMapper).writeAll(Stream.empty());
+
+        assertThat(count).isZero();
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("id,name,date\r\n");
+    }
+
+    @Test
+    void should_parse_format_parameter() {
+        assertThat(ExportFormat.fromParameter("CSV")).isEqualTo(ExportFormat.CSV);
+        assertThat(ExportFormat.fromParameter("ndjson")).isEqualTo(ExportFormat.NDJSON);
+        assertThrows(InvalidQueryParameterException.class, () -> ExportFormat.fromParameter("xlsx"));
+    }
+}
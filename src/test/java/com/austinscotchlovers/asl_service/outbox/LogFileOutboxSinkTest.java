@@ -0,0 +1,74 @@
+package com.austinscotchlovers.asl_service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LogFileOutboxSinkTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2025-06-15T12:00:00Z");
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void should_append_one_json_line_per_message_with_raw_payload() throws IOException {
+        Path file = directory.resolve("outbox/messages.ndjson");
+        LogFileOutboxSink sink = sink(file, DataSize.ofMegabytes(1), 2);
+
+        sink.deliver(List.of(new OutboxEnvelope(1L, "event", 7L, "saved", "{\"id\":7}", CREATED_AT)));
+        sink.deliver(List.of(new OutboxEnvelope(2L, "event", 7L, "deleted", null, CREATED_AT)));
+
+        assertThat(Files.readAllLines(file)).containsExactly(
+                "{\"id\":1,\"aggregateType\":\"event\",\"aggregateId\":7,\"type\":\"saved\",\"payload\":{\"id\":7},\"createdAt\":\"2025-06-15T12:00:00Z\"}",
+                "{\"id\":2,\"aggregateType\":\"event\",\"aggregateId\":7,\"type\":\"deleted\",\"payload\":null,\"createdAt\":\"2025-06-15T12:00:00Z\"}");
+    }
+
+    @Test
+    void should_roll_the_file_once_it_reaches_max_size_and_keep_max_history() throws IOException {
+        Path file = directory.resolve("messages.ndjson");
+        LogFileOutboxSink sink = sink(file, DataSize.ofBytes(1), 2);
+
+        for (long id = 1; id <= 4; id++) {
+            sink.deliver(List.of(new OutboxEnvelope(id, "event", id, "saved", null, CREATED_AT)));
+        }
+
+        assertThat(Files.readString(file)).contains("\"id\":4");
+        assertThat(Files.readString(directory.resolve("messages.ndjson.1"))).contains("\"id\":3");
+        assertThat(Files.readString(directory.resolve("messages.ndjson.2"))).contains("\"id\":2");
+        assertThat(directory.resolve("messages.ndjson.3")).doesNotExist();
+    }
+
+    @Test
+    void should_refuse_a_relative_path() {
+        assertThatThrownBy(() -> sink(Path.of("outbox/messages.ndjson"), DataSize.ofMegabytes(1), 2))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("must be an absolute path");
+    }
+
+    @Test
+    void should_refuse_a_missing_path() {
+        assertThatThrownBy(() -> sink(null, DataSize.ofMegabytes(1), 2))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static LogFileOutboxSink sink(Path file, DataSize maxSize, int maxHistory) {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return new LogFileOutboxSink(
+                new OutboxProperties(null, new OutboxProperties.LogFile(file, maxSize, maxHistory)), objectMapper);
+    }
+}
@@ -0,0 +1,141 @@
+package com.austinscotchlovers.asl_service.outbox;
+
+import com.austinscotchlovers.asl_service.config.SecondLevelCacheConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(SecondLevelCacheConfig.class)
+class OutboxMessageRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-15T12:00:00Z");
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private OutboxMessage append(Long aggregateId, Instant createdAt) {
+        return entityManager.persist(new OutboxMessage("event", aggregateId, "saved", "{\"id\":" + aggregateId + "}", createdAt));
+    }
+
+    @Test
+    void should_claim_only_messages_in_the_requested_partition_in_id_order() {
+        OutboxMessage first = append(2L, NOW);
+        append(3L, NOW);
+        OutboxMessage second = append(4L, NOW);
+        entityManager.flush();
+
+        List<Long> ids = outboxMessageRepository.findClaimable(2, 0, NOW, Limit.of(10));
+
+        assertThat(ids).containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    void should_hide_leased_messages_until_the_lease_expires() {
+        OutboxMessage message = append(1L, NOW);
+        entityManager.flush();
+
+        int claimed = outboxMessageRepository.claim(List.of(message.getId()), "token-a", NOW, NOW.plus(LEASE));
+        int reclaimed = outboxMessageRepository.claim(List.of(message.getId()), "token-b", NOW, NOW.plus(LEASE));
+
+        assertThat(claimed).isEqualTo(1);
+        assertThat(reclaimed).isZero();
+        assertThat(outboxMessageRepository.findClaimable(1, 0, NOW.plusSeconds(10), Limit.of(10))).isEmpty();
+        assertThat(outboxMessageRepository.findClaimable(1, 0, NOW.plus(LEASE).plusSeconds(1), Limit.of(10)))
+                .containsExactly(message.getId());
+    }
+
+    @Test
+    void should_return_claimed_envelopes_and_delete_them_after_delivery() {
+        OutboxMessage message = append(5L, NOW);
+        append(6L, NOW);
+        entityManager.flush();
+        outboxMessageRepository.claim(List.of(message.getId()), "token", NOW, NOW.plus(LEASE));
+
+        List<OutboxEnvelope> envelopes = outboxMessageRepository.findClaimed("token");
+        int deleted = outboxMessageRepository.deleteClaimed("token");
+
+        assertThat(envelopes).containsExactly(
+                new OutboxEnvelope(message.getId(), "event", 5L, "saved", "{\"id\":5}", NOW));
+        assertThat(deleted).isEqualTo(1);
+        assertThat(outboxMessageRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void should_release_claimed_messages_without_counting_an_attempt() {
+        OutboxMessage message = append(7L, NOW);
+        entityManager.flush();
+        outboxMessageRepository.claim(List.of(message.getId()), "token", NOW, NOW.plus(LEASE));
+
+        int released = outboxMessageRepository.release("token");
+        entityManager.clear();
+
+        OutboxMessage reloaded = entityManager.find(OutboxMessage.class, message.getId());
+        assertThat(released).isEqualTo(1);
+        assertThat(reloaded.getLockedBy()).isNull();
+        assertThat(reloaded.getLockedUntil()).isNull();
+        assertThat(reloaded.getAttempts()).isZero();
+        assertThat(outboxMessageRepository.findClaimable(1, 0, NOW, Limit.of(10))).containsExactly(message.getId());
+    }
+
+    @Test
+    void should_dead_letter_a_message_only_once_its_attempts_are_exhausted() {
+        OutboxMessage message = append(8L, NOW);
+        append(9L, NOW.plusSeconds(1));
+        entityManager.flush();
+
+        outboxMessageRepository.recordFailure(message.getId());
+        int early = outboxMessageRepository.deadLetterIfExhausted(message.getId(), 2, NOW);
+        outboxMessageRepository.recordFailure(message.getId());
+        int exhausted = outboxMessageRepository.deadLetterIfExhausted(message.getId(), 2, NOW);
+        entityManager.clear();
+
+        assertThat(early).isZero();
+        assertThat(exhausted).isEqualTo(1);
+        assertThat(entityManager.find(OutboxMessage.class, message.getId()).getDeadLetteredAt()).isEqualTo(NOW);
+        assertThat(outboxMessageRepository.findClaimable(1, 0, NOW, Limit.of(10))).doesNotContain(message.getId());
+        assertThat(outboxMessageRepository.claim(List.of(message.getId()), "token", NOW, NOW.plus(LEASE))).isZero();
+        assertThat(outboxMessageRepository.countDeadLettered()).isEqualTo(1);
+        assertThat(outboxMessageRepository.findBacklog()).isEqualTo(new OutboxBacklog(1, NOW.plusSeconds(1)));
+    }
+
+    @Test
+    void should_delete_delivered_messages_by_id() {
+        OutboxMessage delivered = append(10L, NOW);
+        OutboxMessage pending = append(11L, NOW);
+        entityManager.flush();
+
+        int deleted = outboxMessageRepository.deleteDelivered(List.of(delivered.getId()));
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(outboxMessageRepository.findAll()).extracting(OutboxMessage::getId).containsExactly(pending.getId());
+    }
+
+    @Test
+    void should_report_pending_count_and_oldest_message() {
+        append(1L, NOW.minusSeconds(30));
+        append(2L, NOW);
+        entityManager.flush();
+
+        assertThat(outboxMessageRepository.findBacklog()).isEqualTo(new OutboxBacklog(2, NOW.minusSeconds(30)));
+    }
+
+    @Test
+    void should_report_empty_backlog() {
+        assertThat(outboxMessageRepository.findBacklog().pending()).isZero();
+        assertThat(outboxMessageRepository.findBacklog().oldestCreatedAt()).isNull();
+    }
+}
@@ -0,0 +1,61 @@
+package com.austinscotchlovers.asl_service.outbox;
+
+import com.austinscotchlovers.asl_service.config.SecondLevelCacheConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(SecondLevelCacheConfig.class)
+class OutboxPartitionLeaseRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-15T12:00:00Z");
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Autowired
+    private OutboxPartitionLeaseRepository leaseRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void should_let_only_the_owner_renew_an_unexpired_lease() {
+        entityManager.persistAndFlush(new OutboxPartitionLease(0, "relay-a", NOW.plus(LEASE)));
+
+        int renewed = leaseRepository.renew(0, "relay-a", NOW.plusSeconds(10), NOW.plusSeconds(10).plus(LEASE));
+        int stolen = leaseRepository.renew(0, "relay-b", NOW.plusSeconds(10), NOW.plusSeconds(10).plus(LEASE));
+
+        assertThat(renewed).isEqualTo(1);
+        assertThat(stolen).isZero();
+    }
+
+    @Test
+    void should_hand_an_expired_lease_to_another_owner() {
+        entityManager.persistAndFlush(new OutboxPartitionLease(1, "relay-a", NOW.plus(LEASE)));
+        Instant later = NOW.plus(LEASE).plusSeconds(1);
+
+        int taken = leaseRepository.renew(1, "relay-b", later, later.plus(LEASE));
+        entityManager.clear();
+
+        assertThat(taken).isEqualTo(1);
+        assertThat(entityManager.find(OutboxPartitionLease.class, 1).getOwnedBy()).isEqualTo("relay-b");
+    }
+
+    @Test
+    void should_free_released_leases_for_other_owners() {
+        entityManager.persistAndFlush(new OutboxPartitionLease(2, "relay-a", NOW.plus(LEASE)));
+
+        int released = leaseRepository.release("relay-a");
+        int taken = leaseRepository.renew(2, "relay-b", NOW, NOW.plus(LEASE));
+
+        assertThat(released).isEqualTo(1);
+        assertThat(taken).isEqualTo(1);
+    }
+}
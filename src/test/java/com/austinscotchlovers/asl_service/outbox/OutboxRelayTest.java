@@ -0,0 +1,240 @@
+package com.austinscotchlovers.asl_service.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-15T12:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+    private static final Duration LEASE = Duration.ofSeconds(30);
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private OutboxMessageRepository repository;
+
+    @Mock
+    private OutboxPartitionLeaseRepository leaseRepository;
+
+    @Mock
+    private OutboxSink sink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void should_deliver_claimed_batches_and_delete_them() throws IOException {
+        OutboxRelay relay = relay(1, List.of(sink));
+        List<OutboxEnvelope> batch = List.of(envelope(1L), envelope(2L));
+        when(repository.findClaimable(1, 0, NOW, Limit.of(2))).thenReturn(List.of(1L, 2L)).thenReturn(List.of());
+        when(repository.claim(eq(List.of(1L, 2L)), anyString(), eq(NOW), eq(NOW.plus(LEASE)))).thenReturn(2);
+        when(repository.findClaimed(anyString())).thenReturn(batch);
+        when(repository.findBacklog()).thenReturn(OutboxBacklog.EMPTY);
+
+        assertThat(relay.drain()).isEqualTo(2);
+
+        verify(sink).deliver(batch);
+        verify(repository).deleteClaimed(anyString());
+        verify(repository, never()).release(anyString());
+    }
+
+    @Test
+    void should_release_batch_for_retry_when_a_sink_fails() throws IOException {
+        OutboxRelay relay = relay(1, List.of(sink));
+        List<OutboxEnvelope> batch = List.of(envelope(1L));
+        when(repository.findClaimable(1, 0, NOW, Limit.of(2))).thenReturn(List.of(1L));
+        when(repository.claim(eq(List.of(1L)), anyString(), eq(NOW), eq(NOW.plus(LEASE)))).thenReturn(1);
+        when(repository.findClaimed(anyString())).thenReturn(batch);
+        when(repository.findBacklog()).thenReturn(new OutboxBacklog(1, NOW.minusSeconds(5)));
+        doThrow(new IOException("disk full")).when(sink).deliver(batch);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        relay.bindTo(registry);
+
+        assertThat(relay.drain()).isZero();
+
+        verify(repository).recordFailure(1L);
+        verify(repository).release(anyString());
+        verify(repository, never()).deleteClaimed(anyString());
+        verify(repository, never()).deleteDelivered(anyList());
+        assertThat(registry.get("outbox.messages.failed").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("outbox.messages.pending").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("outbox.lag").timeGauge().value(TimeUnit.SECONDS)).isEqualTo(5.0);
+    }
+
+    @Test
+    void should_deliver_messages_ahead_of_a_failing_one_and_hold_back_the_rest() throws IOException {
+        OutboxRelay relay = relay(1, List.of(sink));
+        List<OutboxEnvelope> batch = List.of(envelope(1L), envelope(2L));
+        when(repository.findClaimable(1, 0, NOW, Limit.of(2))).thenReturn(List.of(1L, 2L));
+        when(repository.claim(eq(List.of(1L, 2L)), anyString(), eq(NOW), eq(NOW.plus(LEASE)))).thenReturn(2);
+        when(repository.findClaimed(anyString())).thenReturn(batch);
+        when(repository.findBacklog()).thenReturn(new OutboxBacklog(1, NOW));
+        doThrow(new IOException("rejected")).when(sink).deliver(batch);
+        doThrow(new IOException("rejected")).when(sink).deliver(List.of(envelope(2L)));
+
+        assertThat(relay.drain()).isEqualTo(1);
+
+        verify(sink).deliver(List.of(envelope(1L)));
+        verify(repository).deleteDelivered(List.of(1L));
+        verify(repository).recordFailure(2L);
+        verify(repository).deadLetterIfExhausted(2L, MAX_ATTEMPTS, NOW);
+        verify(repository).release(anyString());
+    }
+
+    @Test
+    void should_report_dead_lettered_messages_once_attempts_are_exhausted() throws IOException {
+        OutboxRelay relay = relay(1, List.of(sink));
+        List<OutboxEnvelope> batch = List.of(envelope(1L));
+        when(repository.findClaimable(1, 0, NOW, Limit.of(2))).thenReturn(List.of(1L));
+        when(repository.claim(eq(List.of(1L)), anyString(), eq(NOW), eq(NOW.plus(LEASE)))).thenReturn(1);
+        when(repository.findClaimed(anyString())).thenReturn(batch);
+        when(repository.deadLetterIfExhausted(1L, MAX_ATTEMPTS, NOW)).thenReturn(1);
+        when(repository.findBacklog()).thenReturn(OutboxBacklog.EMPTY);
+        when(repository.countDeadLettered()).thenReturn(1L);
+        doThrow(new IOException("rejected")).when(sink).deliver(batch);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        relay.bindTo(registry);
+
+        assertThat(relay.drain()).isZero();
+
+        assertThat(registry.get("outbox.messages.dead-lettered").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("outbox.messages.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void should_drain_every_partition_in_parallel() throws IOException {
+        OutboxRelay relay = relay(3, List.of(sink));
+        when(repository.findClaimable(eq(3), anyInt(), eq(NOW), eq(Limit.of(2)))).thenReturn(List.of());
+        when(repository.findBacklog()).thenReturn(OutboxBacklog.EMPTY);
+
+        assertThat(relay.drain()).isZero();
+
+        for (int partition = 0; partition < 3; partition++) {
+            verify(repository).findClaimable(3, partition, NOW, Limit.of(2));
+        }
+        verify(sink, never()).deliver(anyList());
+    }
+
+    @Test
+    void should_drain_partitions_on_a_bounded_pool_of_platform_threads_by_default() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        OutboxRelay relay = relay(3, List.of(sink));
+        when(repository.findClaimable(eq(3), anyInt(), eq(NOW), eq(Limit.of(2)))).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread());
+            return List.of();
+        });
+        when(repository.findBacklog()).thenReturn(OutboxBacklog.EMPTY);
+
+        relay.drain();
+        relay.drain();
+        relay.close();
+
+        assertThat(threads).hasSizeLessThanOrEqualTo(3)
+                .allSatisfy(thread -> {
+                    assertThat(thread.isVirtual()).isFalse();
+                    assertThat(thread.getName()).startsWith("outbox-relay-");
+                });
+    }
+
+    @Test
+    void should_drain_partitions_on_virtual_threads_when_enabled() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        OutboxRelay relay = relay(2, List.of(sink), true);
+        when(repository.findClaimable(eq(2), anyInt(), eq(NOW), eq(Limit.of(2)))).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread());
+            return List.of();
+        });
+        when(repository.findBacklog()).thenReturn(OutboxBacklog.EMPTY);
+
+        relay.drain();
+        relay.close();
+
+        assertThat(threads).isNotEmpty().allSatisfy(thread -> assertThat(thread.isVirtual()).isTrue());
+    }
+
+    @Test
+    void should_keep_draining_other_partitions_when_one_fails() throws IOException {
+        OutboxRelay relay = relay(2, List.of(sink));
+        List<OutboxEnvelope> batch = List.of(envelope(2L));
+        when(repository.findClaimable(2, 0, NOW, Limit.of(2))).thenReturn(List.of(2L));
+        when(repository.claim(eq(List.of(2L)), anyString(), eq(NOW), eq(NOW.plus(LEASE)))).thenReturn(1);
+        when(repository.findClaimed(anyString())).thenReturn(batch);
+        when(repository.findClaimable(2, 1, NOW, Limit.of(2))).thenThrow(new IllegalStateException("connection reset"));
+        when(repository.findBacklog()).thenReturn(OutboxBacklog.EMPTY);
+
+        assertThat(relay.drain()).isEqualTo(1);
+
+        verify(sink).deliver(batch);
+        verify(repository).deleteClaimed(anyString());
+    }
+
+    @Test
+    void should_skip_partitions_leased_by_another_instance() throws IOException {
+        OutboxRelay relay = relay(2, List.of(sink));
+        when(repository.findClaimable(2, 0, NOW, Limit.of(2))).thenReturn(List.of());
+        when(leaseRepository.renew(eq(0), anyString(), eq(NOW), eq(NOW.plus(LEASE)))).thenReturn(1);
+        when(leaseRepository.renew(eq(1), anyString(), eq(NOW), eq(NOW.plus(LEASE)))).thenReturn(0);
+        when(leaseRepository.existsById(1)).thenReturn(true);
+        when(repository.findBacklog()).thenReturn(OutboxBacklog.EMPTY);
+
+        assertThat(relay.drain()).isZero();
+
+        verify(repository).findClaimable(2, 0, NOW, Limit.of(2));
+        verify(repository, never()).findClaimable(2, 1, NOW, Limit.of(2));
+        verify(leaseRepository, never()).saveAndFlush(any(OutboxPartitionLease.class));
+    }
+
+    @Test
+    void should_give_up_partition_leases_when_closed() {
+        OutboxRelay relay = relay(1, List.of(sink));
+
+        relay.close();
+
+        verify(leaseRepository).release(anyString());
+    }
+
+    @Test
+    void should_refuse_to_start_when_no_sink_is_configured() {
+        assertThatThrownBy(() -> relay(1, List.of()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("no sink is configured");
+
+        verifyNoInteractions(repository, leaseRepository);
+    }
+
+    private OutboxRelay relay(int parallelism, List<OutboxSink> sinks) {
+        return relay(parallelism, sinks, false);
+    }
+
+    private OutboxRelay relay(int parallelism, List<OutboxSink> sinks, boolean virtualThreads) {
+        return new OutboxRelay(repository, leaseRepository, sinks, transactionManager,
+                new OutboxProperties.Relay(2, parallelism, 10, LEASE, MAX_ATTEMPTS), virtualThreads, CLOCK);
+    }
+
+    private static OutboxEnvelope envelope(Long id) {
+        return new OutboxEnvelope(id, OutboxWriter.EVENT, id, OutboxWriter.SAVED, "{\"id\":" + id + "}", NOW);
+    }
+}
@@ -0,0 +1,91 @@
+package com.austinscotchlovers.asl_service.outbox;
+
+import com.austinscotchlovers.asl_service.events.EventChange;
+import com.austinscotchlovers.asl_service.events.dto.EventSummary;
+import com.austinscotchlovers.asl_service.users.User;
+import com.austinscotchlovers.asl_service.users.UserChange;
+import com.austinscotchlovers.asl_service.users.security.Role;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxWriterTest {
+
+    @Mock
+    private OutboxMessageRepository repository;
+
+    private OutboxWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = new OutboxWriter(repository, objectMapper);
+    }
+
+    @Test
+    void should_append_saved_event_with_summary_payload() {
+        EventSummary summary = new EventSummary(7L, "Islay Night", null, LocalDate.of(2025, 9, 1), LocalTime.of(19, 0), "Downtown");
+
+        writer.onEventChange(EventChange.saved(summary));
+
+        OutboxMessage message = captureSaved();
+        assertThat(message.getAggregateType()).isEqualTo(OutboxWriter.EVENT);
+        assertThat(message.getAggregateId()).isEqualTo(7L);
+        assertThat(message.getType()).isEqualTo(OutboxWriter.SAVED);
+        assertThat(message.getPayload()).contains("\"name\":\"Islay Night\"", "\"date\":\"2025-09-01\"");
+        assertThat(message.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void should_append_archived_event_distinctly_from_deleted() {
+        writer.onEventChange(EventChange.archived(7L));
+
+        OutboxMessage message = captureSaved();
+        assertThat(message.getAggregateType()).isEqualTo(OutboxWriter.EVENT);
+        assertThat(message.getAggregateId()).isEqualTo(7L);
+        assertThat(message.getType()).isEqualTo(OutboxWriter.ARCHIVED);
+        assertThat(message.getPayload()).isNull();
+    }
+
+    @Test
+    void should_append_deleted_user_without_payload() {
+        writer.onUserChange(UserChange.deleted(3L, "jane@example.com"));
+
+        OutboxMessage message = captureSaved();
+        assertThat(message.getAggregateType()).isEqualTo(OutboxWriter.USER);
+        assertThat(message.getAggregateId()).isEqualTo(3L);
+        assertThat(message.getType()).isEqualTo(OutboxWriter.DELETED);
+        assertThat(message.getPayload()).isNull();
+    }
+
+    @Test
+    void should_append_saved_user_with_summary_payload() {
+        User user = User.builder().withEmail("jane@example.com").withUsername("jane").withRole(Role.MEMBER).build();
+        user.setId(4L);
+
+        writer.onUserChange(UserChange.saved(user));
+
+        assertThat(captureSaved().getPayload()).contains("\"username\":\"jane\"", "\"role\":\"MEMBER\"");
+    }
+
+    private OutboxMessage captureSaved() {
+        ArgumentCaptor<OutboxMessage> captor = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(repository).save(captor.capture());
+        return captor.getValue();
+    }
+}
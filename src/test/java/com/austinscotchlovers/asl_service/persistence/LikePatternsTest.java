@@ -0,0 +1,18 @@
+package com.austinscotchlovers.asl_service.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikePatternsTest {
+
+    @Test
+    void should_escape_wildcards_and_the_escape_character() {
+        assertThat(LikePatterns.escape("100%_off!")).isEqualTo("100!%!_off!!");
+    }
+
+    @Test
+    void should_pass_null_through() {
+        assertThat(LikePatterns.escape(null)).isNull();
+    }
+}
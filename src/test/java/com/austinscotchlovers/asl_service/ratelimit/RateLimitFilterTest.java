@@ -0,0 +1,62 @@
+package com.austinscotchlovers.asl_service.ratelimit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void should_reject_with_429_and_retry_after_when_throttled() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/events");
+        request.setRemoteAddr("203.0.113.9");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        when(rateLimiter.tryAcquire("GET", "/api/v1/events", "ip:203.0.113.9"))
+                .thenReturn(TimeUnit.MILLISECONDS.toNanos(1_200));
+
+        new RateLimitFilter(rateLimiter).doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void should_key_authenticated_requests_by_principal() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                "member@example.com", null, AuthorityUtils.createAuthorityList("ROLE_MEMBER")));
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/events");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        when(rateLimiter.tryAcquire("POST", "/api/v1/events", "principal:member@example.com"))
+                .thenReturn(RateLimiter.ALLOWED);
+
+        new RateLimitFilter(rateLimiter).doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+}
@@ -0,0 +1,129 @@
+package com.austinscotchlovers.asl_service.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    private final RateLimitProperties properties = new RateLimitProperties(true, 1_000, Duration.ofMinutes(10), List.of(
+            new RateLimitProperties.Group("signup", Set.of("POST"), List.of("/api/v1/users"), 2, 1, Duration.ofSeconds(10)),
+            new RateLimitProperties.Group("public-read", Set.of("get"), List.of("/api/v1/events/**"), 3, 3, Duration.ofSeconds(1))));
+
+    private final RateLimiter rateLimiter = new RateLimiter(properties, now::get);
+
+    @Test
+    void should_allow_a_burst_up_to_capacity_then_throttle() {
+        assertThat(rateLimiter.tryAcquire("GET", "/api/v1/events", "ip:1")).isZero();
+        assertThat(rateLimiter.tryAcquire("GET", "/api/v1/events/7", "ip:1")).isZero();
+        assertThat(rateLimiter.tryAcquire("GET", "/api/v1/events/search", "ip:1")).isZero();
+
+        assertThat(rateLimiter.tryAcquire("GET", "/api/v1/events", "ip:1"))
+                .isEqualTo(Duration.ofSeconds(1).toNanos() / 3);
+    }
+
+    @Test
+    void should_refill_tokens_at_the_configured_rate() {
+        rateLimiter.tryAcquire("POST", "/api/v1/users", "ip:1");
+        rateLimiter.tryAcquire("POST", "/api/v1/users", "ip:1");
+        assertThat(rateLimiter.tryAcquire("POST", "/api/v1/users", "ip:1")).isEqualTo(Duration.ofSeconds(10).toNanos());
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(rateLimiter.tryAcquire("POST", "/api/v1/users", "ip:1")).isZero();
+        assertThat(rateLimiter.tryAcquire("POST", "/api/v1/users", "ip:1")).isPositive();
+    }
+
+    @Test
+    void should_keep_separate_buckets_per_client_and_group() {
+        rateLimiter.tryAcquire("POST", "/api/v1/users", "ip:1");
+        rateLimiter.tryAcquire("POST", "/api/v1/users", "ip:1");
+
+        assertThat(rateLimiter.tryAcquire("POST", "/api/v1/users", "ip:1")).isPositive();
+        assertThat(rateLimiter.tryAcquire("POST", "/api/v1/users", "ip:2")).isZero();
+        assertThat(rateLimiter.tryAcquire("GET", "/api/v1/events", "ip:1")).isZero();
+    }
+
+    @Test
+    void should_not_limit_unmatched_routes_or_when_disabled() {
+        assertThat(rateLimiter.tryAcquire("DELETE", "/api/v1/users/1", "ip:1")).isZero();
+        assertThat(rateLimiter.tryAcquire("GET", "/", "ip:1")).isZero();
+
+        RateLimiter disabled = new RateLimiter(new RateLimitProperties(false, 1_000, Duration.ofMinutes(10),
+                properties.groups()), now::get);
+        for (int i = 0; i < 10; i++) {
+            assertThat(disabled.tryAcquire("POST", "/api/v1/users", "ip:1")).isZero();
+        }
+    }
+
+    @Test
+    void should_count_throttled_requests_per_group() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        rateLimiter.bindTo(registry);
+
+        for (int i = 0; i < 4; i++) {
+            rateLimiter.tryAcquire("POST", "/api/v1/users", "ip:1");
+        }
+
+        assertThat(registry.get("http.server.requests.throttled").tag("group", "signup").functionCounter().count())
+                .isEqualTo(2.0);
+        assertThat(registry.get("http.server.rate.limit.clients").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void should_not_grant_more_than_capacity_under_contention() throws InterruptedException {
+        AtomicLong tat = new AtomicLong(Long.MIN_VALUE);
+        AtomicLong granted = new AtomicLong();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    if (RateLimiter.acquire(tat, 0, 10, 100) == RateLimiter.ALLOWED) {
+                        granted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(granted.get()).isEqualTo(10);
+    }
+
+    @Test
+    void should_reject_groups_that_would_stop_limiting_or_overflow() {
+        RateLimitProperties.Group tooFine = new RateLimitProperties.Group("fine", Set.of(), List.of("/**"), 1, 10, Duration.ofNanos(5));
+        RateLimitProperties.Group tooLong = new RateLimitProperties.Group("long", Set.of(), List.of("/**"), Long.MAX_VALUE, 1, Duration.ofSeconds(1));
+        RateLimitProperties.Group noPermits = new RateLimitProperties.Group("none", Set.of(), List.of("/**"), 1, 0, Duration.ofSeconds(1));
+
+        for (RateLimitProperties.Group group : List.of(tooFine, tooLong, noPermits)) {
+            assertThatThrownBy(() -> new RateLimiter(new RateLimitProperties(true, 1_000, Duration.ofMinutes(10), List.of(group))))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(group.name());
+        }
+    }
+
+    @Test
+    void should_flag_non_positive_permits_capacity_and_missing_period() {
+        RateLimitProperties invalid = new RateLimitProperties(true, 1_000, Duration.ofMinutes(10), List.of(
+                new RateLimitProperties.Group("broken", Set.of(), List.of("/**"), 0, 0, null)));
+
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            assertThat(factory.getValidator().validate(invalid))
+                    .extracting(violation -> violation.getPropertyPath().toString())
+                    .containsExactlyInAnyOrder("groups[0].capacity", "groups[0].permits", "groups[0].period");
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.austinscotchlovers.asl_service.users;
+
+import com.austinscotchlovers.asl_service.users.dto.UserSummary;
+import com.austinscotchlovers.asl_service.users.security.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserAvailabilityIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserAvailabilityIndex(userRepository, transactionManager);
+    }
+
+    @Test
+    void should_answer_unknown_names_from_memory_once_warm() {
+        warmWith(new UserSummary(1L, "John@Example.com", "John", null, null, Role.MEMBER));
+
+        assertFalse(index.isUsernameTaken("jane"));
+        assertFalse(index.isEmailTaken("jane@example.com"));
+        verify(userRepository, never()).existsByUsernameIgnoreCase(any());
+        verify(userRepository, never()).existsByEmailIgnoreCase(any());
+    }
+
+    @Test
+    void should_confirm_indexed_names_against_repository() {
+        warmWith(new UserSummary(1L, "john@example.com", "john", null, null, Role.MEMBER));
+        when(userRepository.existsByUsernameIgnoreCase("john")).thenReturn(true);
+
+        assertTrue(index.isUsernameTaken("  JOHN "));
+    }
+
+    @Test
+    void should_forget_stale_names_after_repository_miss() {
+        warmWith(new UserSummary(1L, "john@example.com", "john", null, null, Role.MEMBER));
+        when(userRepository.existsByEmailIgnoreCase("john@example.com")).thenReturn(false);
+
+        assertFalse(index.isEmailTaken("john@example.com"));
+        assertFalse(index.isEmailTaken("john@example.com"));
+        verify(userRepository, times(1)).existsByEmailIgnoreCase("john@example.com");
+    }
+
+    @Test
+    void should_track_added_replaced_and_removed_names() {
+        warmWith();
+        when(userRepository.existsByUsernameIgnoreCase(any())).thenReturn(true);
+
+        index.add("a@example.com", "alice");
+        assertTrue(index.isUsernameTaken("alice"));
+
+        index.replace("a@example.com", "alice", "a@example.com", "alicia");
+        assertFalse(index.isUsernameTaken("alice"));
+        assertTrue(index.isUsernameTaken("alicia"));
+
+        index.remove("a@example.com", "alicia");
+        assertFalse(index.isUsernameTaken("alicia"));
+    }
+
+    @Test
+    void should_consult_repository_before_warm_up() {
+        when(userRepository.existsByUsernameIgnoreCase("john")).thenReturn(true);
+
+        assertTrue(index.isUsernameTaken("john"));
+    }
+
+    private void warmWith(UserSummary... users) {
+        when(userRepository.streamAllSummaries()).thenReturn(Stream.of(users));
+        index.warm();
+    }
+}
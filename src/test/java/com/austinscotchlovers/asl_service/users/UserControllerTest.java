@@ -1,6 +1,14 @@
 package com.austinscotchlovers.asl_service.users;
 
 import com.austinscotchlovers.asl_service.exceptions.DuplicateUserException;
+import com.austinscotchlovers.asl_service.exceptions.PreconditionFailedException;
+import com.austinscotchlovers.asl_service.exceptions.UserNotFoundException;
+import com.austinscotchlovers.asl_service.export.ExportFormat;
+import com.austinscotchlovers.asl_service.users.dto.BulkUserDeleteResponse;
+import com.austinscotchlovers.asl_service.users.dto.UserAvailability;
+import com.austinscotchlovers.asl_service.users.dto.UserPage;
+import com.austinscotchlovers.asl_service.users.dto.UserProfile;
+import com.austinscotchlovers.asl_service.users.dto.UserSummary;
 import com.austinscotchlovers.asl_service.users.dto.UserUpdateDto;
 import com.austinscotchlovers.asl_service.users.security.Role;
 import com.austinscotchlovers.asl_service.users.security.WithMockCustomUser;
@@ -10,24 +18,35 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
-import java.util.Arrays;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -43,11 +62,16 @@ class UserControllerTest {
     @MockitoBean
     private UserService userService;
 
+    @MockitoBean
+    private UserExportService userExportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     private User testUser;
 
+    private UserProfile testUserProfile;
+
     private UserUpdateDto testUserUpdateDto;
 
     @BeforeEach
@@ -70,6 +94,9 @@ class UserControllerTest {
                 .build();
         testUser.setId(1L);
 
+        testUserProfile = new UserProfile(1L, "test@example.com", "testUser", "Test", "User", "Test User",
+                "http://example.com/pic.jpg", "555-123-4567", Role.MEMBER, null, 3L);
+
         testUserUpdateDto = new UserUpdateDto(
                 "updated@example.com",
                 "updatedUser",
@@ -84,39 +111,99 @@ class UserControllerTest {
 
     @Test
     @WithMockCustomUser(username = "adminUser", roles = "ADMIN")
-    void should_return_all_users_when_admin_gets_all() throws Exception {
-        List<User> userList = Arrays.asList(
-                testUser,
-                User.builder().withEmail("test2@example.com").withUsername("testUser2").withRole(Role.MEMBER).build()
+    void should_return_first_page_of_users_when_admin_gets_all() throws Exception {
+        List<UserSummary> users = List.of(
+                new UserSummary(1L, "test@example.com", "testUser", "Test", "User", Role.MEMBER),
+                new UserSummary(2L, "test2@example.com", "testUser2", null, null, Role.MEMBER)
         );
-        when(userService.getAllUsers()).thenReturn(userList);
+        when(userService.getUsers(isNull(), isNull(), any(Pageable.class))).thenReturn(new UserPage(users, 0, 20, false));
 
         mockMvc.perform(get("/api/v1/users"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[0].email").value("test@example.com"));
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].email").value("test@example.com"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @WithMockCustomUser(username = "adminUser", roles = "ADMIN")
+    void should_pass_role_prefix_and_paging_when_admin_filters_users() throws Exception {
+        when(userService.getUsers(eq(Role.ADMIN), eq("ad"), any(Pageable.class))).thenReturn(new UserPage(List.of(), 2, 5, false));
+
+        mockMvc.perform(get("/api/v1/users")
+                        .param("role", "ADMIN")
+                        .param("username", "ad")
+                        .param("page", "2")
+                        .param("size", "5")
+                        .param("sort", "email,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page").value(2));
+
+        verify(userService).getUsers(eq(Role.ADMIN), eq("ad"), argThat((Pageable pageable) ->
+                pageable.getPageNumber() == 2
+                        && pageable.getPageSize() == 5
+                        && pageable.getSort().equals(Sort.by(Sort.Direction.DESC, "email"))));
+    }
+
+    @Test
+    @WithMockCustomUser(username = "adminUser", roles = "ADMIN")
+    void should_stream_user_export_as_ndjson_when_admin_exports() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(userExportService).exportUsers(eq(ExportFormat.NDJSON), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    @WithMockCustomUser(username = "regularUser", roles = "MEMBER")
+    void should_return_forbidden_when_member_exports_users() throws Exception {
+        mockMvc.perform(get("/api/v1/users/export"))
+                .andExpect(status().isForbidden());
     }
 
     @Test
     @WithMockCustomUser(username = "adminUser", roles = "ADMIN")
     void should_return_user_when_admin_gets_by_id() throws Exception {
-        when(userService.getUserById(1L)).thenReturn(Optional.of(testUser));
+        when(userService.getUserById(1L)).thenReturn(Optional.of(testUserProfile));
 
         mockMvc.perform(get("/api/v1/users/1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.email").value("test@example.com"));
+                .andExpect(jsonPath("$.email").value("test@example.com"))
+                .andExpect(jsonPath("$.attendedEvents").doesNotExist());
+    }
+
+    @Test
+    @WithMockCustomUser(roles = "MEMBER")
+    void should_return_user_etag_and_not_modified_when_it_matches() throws Exception {
+        when(userService.getUserById(1L)).thenReturn(Optional.of(testUserProfile));
+
+        mockMvc.perform(get("/api/v1/users/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(header().string("Cache-Control", "no-cache, private"));
+
+        mockMvc.perform(get("/api/v1/users/1").header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
     }
 
     @Test
     @WithMockCustomUser(username = "adminUser", roles = "ADMIN")
     void should_update_user_when_admin_puts_by_id() throws Exception {
-        User updatedUser = User.builder()
-                .withEmail("updated@example.com")
-                .withUsername("updatedUser")
-                .withRole(Role.ADMIN)
-                .build();
+        UserProfile updatedUser = new UserProfile(1L, "updated@example.com", "updatedUser", null, null, null,
+                null, null, Role.ADMIN, null, 4L);
 
-        when(userService.updateUser(eq(1L), any(UserUpdateDto.class))).thenReturn(updatedUser);
+        when(userService.updateUser(eq(1L), any(UserUpdateDto.class), isNull())).thenReturn(updatedUser);
 
         mockMvc.perform(put("/api/v1/users/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -126,6 +213,49 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.email").value("updated@example.com"));
     }
 
+    @Test
+    @WithMockCustomUser(username = "adminUser", roles = "ADMIN")
+    void should_return_new_etag_when_update_matches_if_match() throws Exception {
+        UserProfile updatedUser = new UserProfile(1L, "updated@example.com", "updatedUser", null, null, null,
+                null, null, Role.MEMBER, null, 4L);
+        when(userService.updateUser(eq(1L), any(UserUpdateDto.class), eq(3L))).thenReturn(updatedUser);
+
+        mockMvc.perform(put("/api/v1/users/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(testUserUpdateDto))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    @WithMockCustomUser(username = "adminUser", roles = "ADMIN")
+    void should_return_precondition_failed_when_user_if_match_is_stale() throws Exception {
+        when(userService.updateUser(eq(1L), any(UserUpdateDto.class), eq(2L)))
+                .thenThrow(new PreconditionFailedException("User 1 has been modified since version 2"));
+
+        mockMvc.perform(put("/api/v1/users/1")
+                        .header("If-Match", "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(testUserUpdateDto))
+                        .with(csrf()))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @WithMockCustomUser(username = "adminUser", roles = "ADMIN")
+    void should_return_conflict_when_update_duplicates_email() throws Exception {
+        when(userService.updateUser(eq(1L), any(UserUpdateDto.class), isNull()))
+                .thenThrow(new DuplicateUserException("Email or username already exists"));
+
+        mockMvc.perform(put("/api/v1/users/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(testUserUpdateDto))
+                        .with(csrf()))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     @WithMockCustomUser(username = "adminUser", roles = "ADMIN")
     void should_delete_user_when_admin_deletes_by_id() throws Exception {
@@ -134,6 +264,23 @@ class UserControllerTest {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    @WithMockCustomUser(username = "adminUser", roles = "ADMIN")
+    void should_bulk_delete_users_when_admin_deletes_by_ids() throws Exception {
+        when(userService.deleteUsers(List.of(3L, 4L))).thenReturn(new BulkUserDeleteResponse(2, 2));
+
+        mockMvc.perform(delete("/api/v1/users").param("ids", "3", "4").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2));
+    }
+
+    @Test
+    @WithMockCustomUser(username = "regularUser", roles = "MEMBER")
+    void should_return_forbidden_when_member_bulk_deletes_users() throws Exception {
+        mockMvc.perform(delete("/api/v1/users").param("ids", "3").with(csrf()))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     @WithMockCustomUser(roles = "ADMIN")
     void should_return_not_found_when_user_to_update_does_not_exist() throws Exception {
@@ -147,7 +294,7 @@ class UserControllerTest {
                 null,
                 null
         );
-        when(userService.updateUser(eq(100L), any(UserUpdateDto.class))).thenThrow(new RuntimeException("User not found"));
+        when(userService.updateUser(eq(100L), any(UserUpdateDto.class), isNull())).thenThrow(new UserNotFoundException("User not found"));
 
         mockMvc.perform(put("/api/v1/users/100")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -197,7 +344,7 @@ class UserControllerTest {
     @Test
     @WithMockCustomUser(roles = "MEMBER")
     void should_return_user_when_member_gets_self_by_id() throws Exception {
-        when(userService.getUserById(1L)).thenReturn(Optional.of(testUser));
+        when(userService.getUserById(1L)).thenReturn(Optional.of(testUserProfile));
 
         mockMvc.perform(get("/api/v1/users/1"))
                 .andExpect(status().isOk())
@@ -207,13 +354,10 @@ class UserControllerTest {
     @Test
     @WithMockCustomUser(roles = "MEMBER")
     void should_update_user_when_member_puts_self_by_id() throws Exception {
-        User updatedUser = User.builder()
-                .withEmail("updated@example.com")
-                .withUsername("updatedUser")
-                .withRole(Role.MEMBER)
-                .build();
+        UserProfile updatedUser = new UserProfile(1L, "updated@example.com", "updatedUser", null, null, null,
+                null, null, Role.MEMBER, null, 4L);
 
-        when(userService.updateUser(eq(1L), any(UserUpdateDto.class))).thenReturn(updatedUser);
+        when(userService.updateUser(eq(1L), any(UserUpdateDto.class), isNull())).thenReturn(updatedUser);
 
         mockMvc.perform(put("/api/v1/users/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -241,7 +385,7 @@ class UserControllerTest {
     @Test
     @WithMockCustomUser(username = "anotherUser", email = "another@example.com", roles = "MEMBER", id = 2L)
     void should_return_forbidden_when_member_gets_another_user_by_id() throws Exception {
-        when(userService.getUserById(1L)).thenReturn(Optional.of(testUser));
+        when(userService.getUserById(1L)).thenReturn(Optional.of(testUserProfile));
 
         mockMvc.perform(get("/api/v1/users/1"))
                 .andExpect(status().isForbidden());
@@ -263,7 +407,8 @@ class UserControllerTest {
                 .withRole(Role.MEMBER)
                 .build();
 
-        when(userService.saveUser(any(User.class))).thenReturn(newUser);
+        when(userService.saveUser(any(User.class))).thenReturn(new UserProfile(5L, "newuser@example.com", "newUser",
+                null, null, null, null, null, Role.MEMBER, null, 0L));
 
         mockMvc.perform(post("/api/v1/users")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -302,4 +447,14 @@ class UserControllerTest {
                         .with(csrf()))
                 .andExpect(status().isUnauthorized());
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_answer_availability_when_guest_checks_username() throws Exception {
+        when(userService.checkAvailability("newUser")).thenReturn(new UserAvailability(true));
+
+        mockMvc.perform(get("/api/v1/users/availability").param("username", "newUser"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usernameAvailable").value(true))
+                .andExpect(jsonPath("$.emailAvailable").doesNotExist());
+    }
+}
@@ -0,0 +1,118 @@
+package com.austinscotchlovers.asl_service.users;
+
+import com.austinscotchlovers.asl_service.config.SecondLevelCacheConfig;
+import com.austinscotchlovers.asl_service.events.Event;
+import com.austinscotchlovers.asl_service.events.EventRepository;
+import com.austinscotchlovers.asl_service.events.dto.EventDetail;
+import com.austinscotchlovers.asl_service.users.dto.UserIdentity;
+import com.austinscotchlovers.asl_service.users.dto.UserSummary;
+import com.austinscotchlovers.asl_service.users.security.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(SecondLevelCacheConfig.class)
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder().withEmail("alice@example.com").withUsername("alice").withRole(Role.ADMIN).build());
+        userRepository.save(User.builder().withEmail("albert@example.com").withUsername("albert").withRole(Role.MEMBER).build());
+        userRepository.save(User.builder().withEmail("bob@example.com").withUsername("bob").withRole(Role.MEMBER).build());
+        userRepository.save(User.builder().withEmail("al_x@example.com").withUsername("al_x").withRole(Role.MEMBER).build());
+    }
+
+    @Test
+    void should_slice_user_summaries_sorted_by_username() {
+        Slice<UserSummary> first = userRepository.findSummaries(null, null, PageRequest.of(0, 2, Sort.by("username")));
+        Slice<UserSummary> second = userRepository.findSummaries(null, null, PageRequest.of(1, 2, Sort.by("username")));
+
+        assertThat(first.getContent()).extracting(UserSummary::username).containsExactly("al_x", "albert");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(UserSummary::username).containsExactly("alice", "bob");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void should_filter_user_summaries_by_role_and_username_prefix() {
+        Slice<UserSummary> members = userRepository.findSummaries(Role.MEMBER, "al", PageRequest.of(0, 10, Sort.by("username")));
+        Slice<UserSummary> escaped = userRepository.findSummaries(null, "al!_", PageRequest.of(0, 10, Sort.by("username")));
+
+        assertThat(members.getContent()).extracting(UserSummary::username).containsExactly("al_x", "albert");
+        assertThat(escaped.getContent()).extracting(UserSummary::username).containsExactly("al_x");
+    }
+
+    @Test
+    void should_check_email_and_username_existence_ignoring_case() {
+        assertThat(userRepository.existsByEmailIgnoreCase("ALICE@example.com")).isTrue();
+        assertThat(userRepository.existsByUsernameIgnoreCase("Bob")).isTrue();
+        assertThat(userRepository.existsByUsernameIgnoreCase("carol")).isFalse();
+    }
+
+    @Test
+    void should_reject_usernames_and_emails_that_differ_only_by_case() {
+        assertThatThrownBy(() -> userRepository.saveAndFlush(
+                User.builder().withEmail("robert@example.com").withUsername("Bob").withRole(Role.MEMBER).build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        entityManager.clear();
+        assertThatThrownBy(() -> userRepository.saveAndFlush(
+                User.builder().withEmail("Alice@Example.com").withUsername("alice2").withRole(Role.MEMBER).build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void should_bulk_delete_users_with_addresses_and_release_their_seats() {
+        Address address = new Address("1 Congress Ave", null, "Austin", "TX", "78701");
+        User carol = userRepository.saveAndFlush(User.builder()
+                .withEmail("carol@example.com").withUsername("carol").withRole(Role.MEMBER).withAddress(address).build());
+        Long aliceId = userRepository.findByEmail("alice@example.com").orElseThrow().getId();
+        Event event = new Event("Tasting", null, LocalDate.of(2025, 9, 1), LocalTime.of(19, 0), "Downtown", new ArrayList<>());
+        Long eventId = eventRepository.saveAndFlush(event).getId();
+        eventRepository.openSeats(List.of(eventId));
+        for (Long userId : List.of(carol.getId(), aliceId)) {
+            eventRepository.claimSeat(eventId);
+            eventRepository.insertAttendee(eventId, userId);
+        }
+
+        List<UserIdentity> identities = userRepository.findIdentities(List.of(carol.getId(), -1L));
+        assertThat(identities).containsExactly(
+                new UserIdentity(carol.getId(), "carol@example.com", "carol", carol.getAddress().getId()));
+
+        List<Long> ids = List.of(carol.getId());
+        assertThat(userRepository.releaseAttendedSeats(ids)).isEqualTo(1);
+        assertThat(userRepository.deleteAttendanceByUserIds(ids)).isEqualTo(1);
+        assertThat(userRepository.deleteWaitlistByUserIds(ids)).isZero();
+        assertThat(userRepository.deleteByIds(ids)).isEqualTo(1);
+        assertThat(userRepository.deleteAddressesByIds(List.of(carol.getAddress().getId()))).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(userRepository.findById(carol.getId())).isEmpty();
+        assertThat(eventRepository.findDetailById(eventId)).get().extracting(EventDetail::attendeeCount).isEqualTo(1);
+        assertThat(eventRepository.countAttendee(eventId, aliceId)).isEqualTo(1);
+    }
+}
@@ -1,17 +1,30 @@
 package com.austinscotchlovers.asl_service.users;
 
 import com.austinscotchlovers.asl_service.exceptions.DuplicateUserException;
+import com.austinscotchlovers.asl_service.exceptions.InvalidQueryParameterException;
+import com.austinscotchlovers.asl_service.exceptions.PreconditionFailedException;
+import com.austinscotchlovers.asl_service.exceptions.UserNotFoundException;
+import com.austinscotchlovers.asl_service.users.dto.BulkUserDeleteResponse;
+import com.austinscotchlovers.asl_service.users.dto.UserAvailability;
+import com.austinscotchlovers.asl_service.users.dto.UserIdentity;
+import com.austinscotchlovers.asl_service.users.dto.UserPage;
+import com.austinscotchlovers.asl_service.users.dto.UserProfile;
+import com.austinscotchlovers.asl_service.users.dto.UserSummary;
 import com.austinscotchlovers.asl_service.users.dto.UserUpdateDto;
 import com.austinscotchlovers.asl_service.users.mapper.UserMapper;
+import com.austinscotchlovers.asl_service.users.security.Role;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,10 +40,17 @@ class UserServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private UserAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
     private User testUser;
+    private UserProfile testUserProfile;
     private final Long userId = 1L;
     private UserUpdateDto testUserUpdateDto;
 
@@ -40,6 +60,7 @@ class UserServiceTest {
         testUser.setId(userId);
         testUser.setFirstName("John");
         testUser.setLastName("Doe");
+        testUserProfile = new UserProfile(userId, null, null, "John", "Doe", null, null, null, null, null, 0L);
 
         testUserUpdateDto = new UserUpdateDto(
                 "jane.smith@example.com",
@@ -54,48 +75,100 @@ class UserServiceTest {
     }
 
     @Test
-    void should_return_all_users_when_getting_all() {
-        when(userRepository.findAll()).thenReturn(Collections.singletonList(testUser));
+    void should_return_page_of_user_summaries() {
+        UserSummary summary = new UserSummary(userId, "john@example.com", "john", "John", "Doe", Role.MEMBER);
+        PageRequest expectedPage = PageRequest.of(0, 20, Sort.by("username").and(Sort.by("id")));
+        when(userRepository.findSummaries(Role.MEMBER, "jo", expectedPage))
+                .thenReturn(new SliceImpl<>(List.of(summary), expectedPage, true));
+
+        UserPage page = userService.getUsers(Role.MEMBER, "jo", PageRequest.of(0, 20, Sort.by("username")));
+
+        assertEquals(List.of(summary), page.items());
+        assertEquals(0, page.page());
+        assertEquals(20, page.size());
+        assertTrue(page.hasNext());
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    void should_escape_like_wildcards_and_cap_page_size() {
+        PageRequest expectedPage = PageRequest.of(0, UserService.MAX_PAGE_SIZE, Sort.by("id"));
+        when(userRepository.findSummaries(null, "a!_b!%", expectedPage))
+                .thenReturn(new SliceImpl<>(List.of(), expectedPage, false));
 
-        List<User> users = userService.getAllUsers();
+        UserPage page = userService.getUsers(null, " a_b% ", PageRequest.of(0, 5_000));
 
-        assertNotNull(users);
-        assertFalse(users.isEmpty());
-        assertEquals(1, users.size());
-        assertEquals("John", users.getFirst().getFirstName());
-        verify(userRepository, times(1)).findAll();
+        assertTrue(page.items().isEmpty());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void should_reject_sorting_by_unknown_property() {
+        assertThrows(InvalidQueryParameterException.class,
+                () -> userService.getUsers(null, null, PageRequest.of(0, 20, Sort.by("phoneNumber"))));
+        verifyNoInteractions(userRepository);
     }
 
     @Test
     void should_return_user_when_getting_by_id_and_user_exists() {
-        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+        when(userRepository.findWithAddressById(userId)).thenReturn(Optional.of(testUser));
+        when(userMapper.toProfile(testUser)).thenReturn(testUserProfile);
 
-        Optional<User> foundUser = userService.getUserById(userId);
+        Optional<UserProfile> foundUser = userService.getUserById(userId);
 
         assertTrue(foundUser.isPresent());
-        assertEquals("John", foundUser.get().getFirstName());
-        verify(userRepository, times(1)).findById(userId);
+        assertEquals("John", foundUser.get().firstName());
+        verify(userRepository, times(1)).findWithAddressById(userId);
     }
 
     @Test
     void should_return_empty_optional_when_getting_by_id_and_user_does_not_exist() {
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.findWithAddressById(userId)).thenReturn(Optional.empty());
 
-        Optional<User> foundUser = userService.getUserById(userId);
+        Optional<UserProfile> foundUser = userService.getUserById(userId);
 
         assertFalse(foundUser.isPresent());
-        verify(userRepository, times(1)).findById(userId);
+        verify(userRepository, times(1)).findWithAddressById(userId);
     }
 
     @Test
     void should_save_user_when_saving_new_user() {
         when(userRepository.save(testUser)).thenReturn(testUser);
+        when(userMapper.toProfile(testUser)).thenReturn(testUserProfile);
 
-        User savedUser = userService.saveUser(testUser);
+        UserProfile savedUser = userService.saveUser(testUser);
 
         assertNotNull(savedUser);
-        assertEquals("John", savedUser.getFirstName());
+        assertEquals("John", savedUser.firstName());
         verify(userRepository, times(1)).save(testUser);
+        verify(availabilityIndex).add(testUser.getEmail(), testUser.getUsername());
+        verify(eventPublisher).publishEvent(UserChange.saved(testUser));
+    }
+
+    @Test
+    void should_reject_duplicate_without_inserting_when_index_reports_email_taken() {
+        testUser.setEmail("john@example.com");
+        when(availabilityIndex.isEmailTaken("john@example.com")).thenReturn(true);
+
+        assertThrows(DuplicateUserException.class, () -> userService.saveUser(testUser));
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void should_answer_availability_from_index() {
+        when(availabilityIndex.isUsernameTaken("john")).thenReturn(true);
+
+        UserAvailability availability = userService.checkAvailability("john");
+
+        assertFalse(availability.usernameAvailable());
+        verify(availabilityIndex, never()).isEmailTaken(any());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void should_reject_availability_check_without_username_or_email() {
+        assertThrows(InvalidQueryParameterException.class, () -> userService.checkAvailability(" "));
+        verifyNoInteractions(availabilityIndex);
     }
 
     @Test
@@ -125,26 +198,41 @@ class UserServiceTest {
         expectedUserAfterUpdate.setLastName("Smith");
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(userRepository.save(any(User.class))).thenReturn(expectedUserAfterUpdate);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(expectedUserAfterUpdate);
+        when(userMapper.toProfile(expectedUserAfterUpdate))
+                .thenReturn(new UserProfile(userId, null, null, "Jane", "Smith", null, null, null, null, null, 1L));
 
-        User result = userService.updateUser(userId, updatedDto);
+        UserProfile result = userService.updateUser(userId, updatedDto, null);
 
         assertNotNull(result);
-        assertEquals("Jane", result.getFirstName());
-        assertEquals("Smith", result.getLastName());
+        assertEquals("Jane", result.firstName());
+        assertEquals("Smith", result.lastName());
         verify(userRepository, times(1)).findById(userId);
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
         verify(userMapper, times(1)).updateUserFromDto(updatedDto, testUser);
+        verify(availabilityIndex).replace(null, null, expectedUserAfterUpdate.getEmail(), expectedUserAfterUpdate.getUsername());
+        verify(eventPublisher).publishEvent(UserChange.updated(expectedUserAfterUpdate, null));
+    }
+
+    @Test
+    void should_reject_update_without_flushing_when_new_username_is_taken() {
+        testUser.setUsername("john");
+        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+        when(availabilityIndex.isUsernameTaken("janesmith")).thenReturn(true);
+
+        assertThrows(DuplicateUserException.class, () -> userService.updateUser(userId, testUserUpdateDto, null));
+        verify(userMapper, never()).updateUserFromDto(any(), any());
+        verify(userRepository, never()).saveAndFlush(any(User.class));
     }
 
     @Test
     void should_throw_exception_when_updating_user_with_duplicate_email() {
         when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(userRepository.save(any(User.class))).thenThrow(DataIntegrityViolationException.class);
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(DataIntegrityViolationException.class);
 
-        assertThrows(DuplicateUserException.class, () -> userService.updateUser(userId, testUserUpdateDto));
+        assertThrows(DuplicateUserException.class, () -> userService.updateUser(userId, testUserUpdateDto, null));
         verify(userRepository, times(1)).findById(userId);
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -162,14 +250,60 @@ class UserServiceTest {
 
         when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
-        assertThrows(RuntimeException.class, () -> userService.updateUser(userId, updatedDto));
-        verify(userRepository, never()).save(any(User.class));
+        assertThrows(UserNotFoundException.class, () -> userService.updateUser(userId, updatedDto, null));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    void should_reject_update_when_expected_version_is_stale() {
+        testUser.setVersion(2L);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+
+        assertThrows(PreconditionFailedException.class, () -> userService.updateUser(userId, testUserUpdateDto, 1L));
+        verify(userMapper, never()).updateUserFromDto(any(), any());
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     void should_delete_user_by_id() {
+        when(userRepository.findIdentities(List.of(userId)))
+                .thenReturn(List.of(new UserIdentity(userId, "john@example.com", "john", 7L)));
+
+        userService.deleteUser(userId);
+
+        verify(userRepository, times(1)).releaseAttendedSeats(List.of(userId));
+        verify(userRepository, times(1)).deleteAttendanceByUserIds(List.of(userId));
+        verify(userRepository, times(1)).deleteArchivedAttendanceByUserIds(List.of(userId));
+        verify(userRepository, times(1)).deleteWaitlistByUserIds(List.of(userId));
+        verify(userRepository, times(1)).deleteByIds(List.of(userId));
+        verify(userRepository, times(1)).deleteAddressesByIds(List.of(7L));
+        verify(userRepository, never()).findById(any());
+        verify(availabilityIndex).remove("john@example.com", "john");
+        verify(eventPublisher).publishEvent(UserChange.deleted(userId, "john@example.com"));
+    }
+
+    @Test
+    void should_bulk_delete_only_existing_users() {
+        when(userRepository.findIdentities(List.of(1L, 2L)))
+                .thenReturn(List.of(new UserIdentity(1L, "john@example.com", "john", null)));
+        when(userRepository.deleteByIds(List.of(1L))).thenReturn(1);
+
+        BulkUserDeleteResponse response = userService.deleteUsers(List.of(1L, 2L, 2L));
+
+        assertEquals(new BulkUserDeleteResponse(2, 1), response);
+        verify(userRepository, never()).deleteAddressesByIds(any());
+        verify(eventPublisher).publishEvent(UserChange.deleted(1L, "john@example.com"));
+        verify(eventPublisher, never()).publishEvent(UserChange.deleted(2L, null));
+    }
+
+    @Test
+    void should_skip_deletes_when_no_users_match() {
+        when(userRepository.findIdentities(List.of(userId))).thenReturn(List.of());
+
         userService.deleteUser(userId);
 
-        verify(userRepository, times(1)).deleteById(userId);
+        verify(userRepository, never()).deleteByIds(any());
+        verifyNoInteractions(availabilityIndex, eventPublisher);
     }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.austinscotchlovers.asl_service.users.security;
+
+import com.austinscotchlovers.asl_service.users.User;
+import com.austinscotchlovers.asl_service.users.UserChange;
+import com.austinscotchlovers.asl_service.users.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private PrincipalCache principalCache;
+
+    private CustomUserDetailsService userDetailsService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(100, Duration.ofMinutes(5));
+        userDetailsService = new CustomUserDetailsService(userRepository, principalCache);
+
+        user = User.builder()
+                .withEmail("member@example.com")
+                .withUsername("member")
+                .withRole(Role.MEMBER)
+                .build();
+        user.setId(7L);
+    }
+
+    @Test
+    void should_load_principal_snapshot_once_and_serve_repeats_from_cache() {
+        when(userRepository.findByEmail("member@example.com")).thenReturn(Optional.of(user));
+
+        UserDetails first = userDetailsService.loadUserByUsername("member@example.com");
+        UserDetails second = userDetailsService.loadUserByUsername("member@example.com");
+
+        assertThat(first).isEqualTo(new CustomUserPrincipal(7L, "member@example.com", Role.MEMBER));
+        assertThat(second).isSameAs(first);
+        assertThat(first.getAuthorities()).extracting("authority").containsExactly("ROLE_MEMBER");
+        verify(userRepository, times(1)).findByEmail("member@example.com");
+        assertThat(principalCache.stats()).isEqualTo(new PrincipalCacheStats(1, 1, 0, 1));
+    }
+
+    @Test
+    void should_reload_principal_after_user_is_invalidated() {
+        when(userRepository.findByEmail("member@example.com")).thenReturn(Optional.of(user));
+
+        userDetailsService.loadUserByUsername("member@example.com");
+        principalCache.invalidate("member@example.com");
+        userDetailsService.loadUserByUsername("member@example.com");
+
+        verify(userRepository, times(2)).findByEmail("member@example.com");
+    }
+
+    @Test
+    void should_evict_old_and_new_email_when_a_user_change_commits() {
+        when(userRepository.findByEmail("member@example.com")).thenReturn(Optional.of(user));
+        userDetailsService.loadUserByUsername("member@example.com");
+
+        principalCache.onUserChange(new UserChange(7L, null, List.of("renamed@example.com", "member@example.com")));
+
+        assertThat(principalCache.stats().size()).isZero();
+    }
+
+    @Test
+    void should_not_cache_unknown_users() {
+        when(userRepository.findByEmail("ghost@example.com")).thenReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("ghost@example.com"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("ghost@example.com"));
+
+        verify(userRepository, times(2)).findByEmail("ghost@example.com");
+        assertThat(principalCache.stats().size()).isZero();
+    }
+
+    @Test
+    void should_publish_principal_cache_hits_and_misses_as_meters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        principalCache.bindTo(registry);
+        when(userRepository.findByEmail("member@example.com")).thenReturn(Optional.of(user));
+
+        userDetailsService.loadUserByUsername("member@example.com");
+        userDetailsService.loadUserByUsername("member@example.com");
+
+        assertThat(registry.get("cache.gets").tags("cache", "principals", "result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("cache.gets").tags("cache", "principals", "result", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("cache.size").tags("cache", "principals").gauge().value()).isEqualTo(1.0);
+    }
+}